@@ -0,0 +1,25 @@
+package subway.common;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import subway.SubwayApplication;
+
+import java.util.Arrays;
+
+/**
+ * 벤치마크용 애플리케이션 컨텍스트. 비교 대상별 설정은 application.properties보다 우선하도록 명령행 인자로 넘긴다.
+ */
+public final class BenchmarkApplication {
+    private BenchmarkApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(String... properties) {
+        return new SpringApplicationBuilder(SubwayApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "logging.level.root=warn",
+                        "spring.jpa.properties.hibernate.show_sql=false")
+                .run(Arrays.stream(properties).map(property -> "--" + property).toArray(String[]::new));
+    }
+}
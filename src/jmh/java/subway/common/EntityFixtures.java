@@ -0,0 +1,11 @@
+package subway.common;
+
+public final class EntityFixtures {
+    private EntityFixtures() {
+    }
+
+    public static <T extends BaseEntity> T withId(T entity, long id) {
+        entity.id = id;
+        return entity;
+    }
+}
@@ -0,0 +1,25 @@
+package subway.common;
+
+import subway.line.domain.Line;
+import subway.section.domain.Section;
+import subway.station.domain.Station;
+
+public final class NetworkFixtures {
+    private NetworkFixtures() {
+    }
+
+    public static Station station(long id) {
+        return EntityFixtures.withId(new Station("역" + id), id);
+    }
+
+    public static Line line(long id, int sectionCount) {
+        Line line = EntityFixtures.withId(new Line("노선" + id, "bg-test-600"), id);
+        Station upStation = station(id * 100_000);
+        for (int i = 1; i <= sectionCount; i++) {
+            Station downStation = station(id * 100_000 + i);
+            line.addSection(new Section(line, upStation, downStation, 10));
+            upStation = downStation;
+        }
+        return line;
+    }
+}
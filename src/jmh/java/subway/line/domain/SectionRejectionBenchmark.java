@@ -0,0 +1,79 @@
+package subway.line.domain;
+
+import org.openjdk.jmh.annotations.*;
+import subway.common.NetworkFixtures;
+import subway.common.error.ErrorCode;
+import subway.common.error.InvalidSectionRequestException;
+import subway.section.domain.Section;
+import subway.station.domain.Station;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 잘못된 구간 요청이 거부되는 처리량.
+ * 두 비교 대상은 같은 하행종점역 검사를 한 뒤 각자의 예외만 만들어 던진다. 이전 방식은 스택 트레이스와 문자열 메시지를 만들고,
+ * 현재 방식은 스택 없는 예외에 오류 코드와 요청 값을 그대로 담는다. {@code rejectSection}은 도메인 경로 전체의 참고값이다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class SectionRejectionBenchmark {
+    @Param({"10", "1000"})
+    private int sectionCount;
+
+    private Line line;
+    private Section invalidSection;
+
+    @Setup
+    public void setUp() {
+        line = NetworkFixtures.line(1, sectionCount);
+        Station origin = line.getSections().getFirst().getUpStation();
+        invalidSection = new Section(line, origin, NetworkFixtures.station(Long.MAX_VALUE), 10);
+    }
+
+    @Benchmark
+    public Object rejectSection() {
+        try {
+            line.addSection(invalidSection);
+            return null;
+        } catch (InvalidSectionRequestException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object throwSubwayException() {
+        try {
+            if (!isTerminal(invalidSection.getUpStationId())) {
+                throw new InvalidSectionRequestException(ErrorCode.SECTION_UP_STATION_NOT_TERMINAL, Map.of(
+                        "lineId", line.getId(),
+                        "upStationId", invalidSection.getUpStationId(),
+                        "downStationId", invalidSection.getDownStationId()));
+            }
+            return null;
+        } catch (InvalidSectionRequestException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object throwLegacyException() {
+        try {
+            if (!isTerminal(invalidSection.getUpStationId())) {
+                throw new IllegalArgumentException(ErrorCode.SECTION_UP_STATION_NOT_TERMINAL.getMessage() + " Details: " + Map.of(
+                        "lineId", line.getId().toString(),
+                        "upStationId", invalidSection.getUpStationId().toString(),
+                        "downStationId", invalidSection.getDownStationId().toString()));
+            }
+            return null;
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    private boolean isTerminal(Long stationId) {
+        return Objects.equals(stationId, line.getSections().getTerminalStationId());
+    }
+}
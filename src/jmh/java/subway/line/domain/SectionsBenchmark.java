@@ -0,0 +1,45 @@
+package subway.line.domain;
+
+import org.openjdk.jmh.annotations.*;
+import subway.common.NetworkFixtures;
+import subway.section.domain.Section;
+import subway.station.domain.Station;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SectionsBenchmark {
+    @Param({"10", "100", "1000", "10000"})
+    private int sectionCount;
+
+    private Line line;
+    private Section nextSection;
+
+    @Setup
+    public void setUp() {
+        line = NetworkFixtures.line(1, sectionCount);
+        Station terminal = line.getSections().getLast().getDownStation();
+        nextSection = new Section(line, terminal, NetworkFixtures.station(Long.MAX_VALUE), 10);
+    }
+
+    @Benchmark
+    public Sections appendAndRemoveLast() {
+        Sections sections = line.getSections();
+        sections.add(nextSection);
+        sections.removeLast();
+        return sections;
+    }
+
+    @Benchmark
+    public List<Station> getStations() {
+        return line.getSections().getStations();
+    }
+
+    @Benchmark
+    public int getTotalDistance() {
+        return line.getSections().getTotalDistance();
+    }
+}
@@ -0,0 +1,87 @@
+package subway.line.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.*;
+import subway.common.NetworkFixtures;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.zip.GZIPOutputStream;
+
+import static subway.line.mapper.LineMapper.LINE_MAPPER;
+
+/**
+ * 형식별 직렬화 시간을 측정한다. 전송 크기는 보조 카운터로 함께 보고하며, {@code bytes / payloads}가 응답 한 건의 크기다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LineResponseSerializationBenchmark {
+    private static final int SECTION_COUNT = 30;
+
+    @Param({"10", "100"})
+    private int lineCount;
+
+    private final ObjectMapper jsonMapper = new ObjectMapper();
+    private final ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+    private List<LineResponse> lines;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class PayloadSize {
+        public long bytes;
+        public long payloads;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytes = 0;
+            payloads = 0;
+        }
+
+        byte[] record(byte[] payload) {
+            bytes += payload.length;
+            payloads++;
+            return payload;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        lines = LongStream.rangeClosed(1, lineCount)
+                .mapToObj(id -> LINE_MAPPER.toLineResponse(NetworkFixtures.line(id, SECTION_COUNT)))
+                .toList();
+    }
+
+    @Benchmark
+    public byte[] json(PayloadSize size) throws JsonProcessingException {
+        return size.record(jsonMapper.writeValueAsBytes(lines));
+    }
+
+    @Benchmark
+    public byte[] smile(PayloadSize size) throws JsonProcessingException {
+        return size.record(smileMapper.writeValueAsBytes(lines));
+    }
+
+    @Benchmark
+    public byte[] jsonGzip(PayloadSize size) throws IOException {
+        return size.record(gzip(jsonMapper, lines));
+    }
+
+    @Benchmark
+    public byte[] smileGzip(PayloadSize size) throws IOException {
+        return size.record(gzip(smileMapper, lines));
+    }
+
+    private static byte[] gzip(ObjectMapper mapper, Object value) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            mapper.writeValue(gzip, value);
+        }
+        return bytes.toByteArray();
+    }
+}
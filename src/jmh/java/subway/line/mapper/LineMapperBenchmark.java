@@ -0,0 +1,30 @@
+package subway.line.mapper;
+
+import org.openjdk.jmh.annotations.*;
+import subway.common.NetworkFixtures;
+import subway.line.domain.Line;
+import subway.line.dto.LineResponse;
+
+import java.util.concurrent.TimeUnit;
+
+import static subway.line.mapper.LineMapper.LINE_MAPPER;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LineMapperBenchmark {
+    @Param({"10", "100", "1000"})
+    private int sectionCount;
+
+    private Line line;
+
+    @Setup
+    public void setUp() {
+        line = NetworkFixtures.line(1, sectionCount);
+    }
+
+    @Benchmark
+    public LineResponse toLineResponse() {
+        return LINE_MAPPER.toLineResponse(line);
+    }
+}
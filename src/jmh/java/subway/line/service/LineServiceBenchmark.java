@@ -0,0 +1,65 @@
+package subway.line.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import subway.common.BenchmarkApplication;
+import subway.line.dto.CreateLineRequest;
+import subway.line.dto.LineResponse;
+import subway.section.dto.AddSectionRequest;
+import subway.station.dto.StationRequest;
+import subway.station.service.StationService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LineServiceBenchmark {
+    private static final int SECTIONS_PER_LINE = 20;
+
+    @Param({"10", "100", "500"})
+    private int lineCount;
+
+    private ConfigurableApplicationContext context;
+    private LineService lineService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        lineService = context.getBean(LineService.class);
+        StationService stationService = context.getBean(StationService.class);
+
+        for (int lineIndex = 0; lineIndex < lineCount; lineIndex++) {
+            List<Long> stationIds = new ArrayList<>();
+            for (int stationIndex = 0; stationIndex <= SECTIONS_PER_LINE; stationIndex++) {
+                stationIds.add(stationService.saveStation(StationRequest.from(lineIndex + "-" + stationIndex)).id());
+            }
+
+            Long lineId = lineService.createLine(CreateLineRequest.builder()
+                    .name("노선" + lineIndex)
+                    .color("bg-test-600")
+                    .upStationId(stationIds.get(0))
+                    .downStationId(stationIds.get(1))
+                    .distance(10)
+                    .build()).getId();
+
+            List<AddSectionRequest> addSectionRequests = new ArrayList<>();
+            for (int stationIndex = 1; stationIndex < SECTIONS_PER_LINE; stationIndex++) {
+                addSectionRequests.add(new AddSectionRequest(stationIds.get(stationIndex), stationIds.get(stationIndex + 1), 10));
+            }
+            lineService.addSections(lineId, addSectionRequests);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<LineResponse> findAllLines() {
+        return lineService.findAllLines();
+    }
+}
@@ -0,0 +1,72 @@
+package subway.station.service;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+import subway.common.BenchmarkApplication;
+import subway.station.domain.Station;
+import subway.station.repository.StationRepository;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * pooled 시퀀스 할당 도입 전후의 역 일괄 생성 처리량을 비교한다.
+ * 엔티티 매핑은 시퀀스로 고정되어 있으므로 {@link Strategy#IDENTITY_BASELINE}은 할당 크기 1에 JDBC 배치와 INSERT 정렬을 끄고,
+ * IDENTITY 방식처럼 행마다 키를 받아 오는 왕복과 INSERT를 한 번씩 따로 실행한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class StationCreationBenchmark {
+    private static final int BATCH_SIZE = 200;
+
+    public enum Strategy {
+        IDENTITY_BASELINE(
+                "spring.jpa.properties.subway.id.allocation_size=1",
+                "spring.jpa.properties.hibernate.jdbc.batch_size=0",
+                "spring.jpa.properties.hibernate.order_inserts=false"),
+        POOLED(
+                "spring.jpa.properties.subway.id.allocation_size=50",
+                "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+                "spring.jpa.properties.hibernate.order_inserts=true");
+
+        private final String[] properties;
+
+        Strategy(String... properties) {
+            this.properties = properties;
+        }
+    }
+
+    @Param({"IDENTITY_BASELINE", "POOLED"})
+    private Strategy strategy;
+
+    private final AtomicLong nameSequence = new AtomicLong();
+    private ConfigurableApplicationContext context;
+    private StationRepository stationRepository;
+    private TransactionTemplate transactionTemplate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(strategy.properties);
+        stationRepository = context.getBean(StationRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<Station> createStations() {
+        List<Station> stations = IntStream.range(0, BATCH_SIZE)
+                .mapToObj(index -> new Station("역" + nameSequence.incrementAndGet()))
+                .collect(Collectors.toList());
+        return transactionTemplate.execute(status -> stationRepository.saveAll(stations));
+    }
+}
@@ -2,7 +2,13 @@ package subway;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.retry.annotation.EnableRetry;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
+@EnableCaching
+@EnableRetry
+@EnableScheduling
 @SpringBootApplication
 public class SubwayApplication {
     public static void main(String[] args) {
@@ -0,0 +1,44 @@
+package subway.common.config;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+/**
+ * {@code Accept} 헤더로 고른 응답 표현. 메시지 컨버터와 같은 순서(JSON 우선)로 고르므로, 표현마다 다른 ETag를 만드는 데 쓴다.
+ */
+public enum ResponseFormat {
+    JSON,
+    SMILE;
+
+    private static final MediaType SMILE_MEDIA_TYPE = MediaType.valueOf("application/x-jackson-smile");
+
+    public static ResponseFormat of(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return JSON;
+        }
+
+        List<MediaType> mediaTypes;
+        try {
+            mediaTypes = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return JSON;
+        }
+
+        MediaType.sortBySpecificityAndQuality(mediaTypes);
+        for (MediaType mediaType : mediaTypes) {
+            if (mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return JSON;
+            }
+            if (mediaType.isCompatibleWith(SMILE_MEDIA_TYPE)) {
+                return SMILE;
+            }
+        }
+        return JSON;
+    }
+
+    public String tag() {
+        return name().toLowerCase();
+    }
+}
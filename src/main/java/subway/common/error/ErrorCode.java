@@ -0,0 +1,40 @@
+package subway.common.error;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+@Getter
+@RequiredArgsConstructor
+public enum ErrorCode {
+    NOT_FOUND(HttpStatus.NOT_FOUND, "대상을 찾을 수 없습니다."),
+
+    SECTION_EMPTY_REQUEST(HttpStatus.BAD_REQUEST, "등록할 구간이 없습니다."),
+    SECTION_STATION_ID_REQUIRED(HttpStatus.BAD_REQUEST, "구간의 상행역과 하행역을 모두 지정해야 합니다."),
+    SECTION_UP_STATION_NOT_TERMINAL(HttpStatus.BAD_REQUEST, "해당 노선의 하행종점역이 아닌 역이 상행역으로 설정되었습니다."),
+    SECTION_DOWN_STATION_ALREADY_REGISTERED(HttpStatus.BAD_REQUEST, "이미 노선에 등록된 역을 새로운 구간의 하행역으로 등록하였습니다."),
+    SECTION_INVALID_DISTANCE(HttpStatus.BAD_REQUEST, "길이가 0인 구간은 등록할 수 없습니다."),
+    SECTION_NOT_TERMINAL(HttpStatus.BAD_REQUEST, "마지막 구간만 삭제할 수 있습니다."),
+    SECTION_SINGLE_REMAINING(HttpStatus.BAD_REQUEST, "구간이 2개 이상일 때만 삭제할 수 있습니다."),
+
+    PATH_SAME_STATIONS(HttpStatus.BAD_REQUEST, "출발역과 도착역이 같습니다."),
+    PATH_NOT_CONNECTED(HttpStatus.BAD_REQUEST, "출발역과 도착역이 연결되어 있지 않습니다."),
+
+    CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "다른 요청과 동시에 수정되었습니다. 다시 시도해 주세요."),
+    DATA_CONFLICT(HttpStatus.CONFLICT, "이미 존재하는 데이터이거나 다른 데이터가 참조하고 있습니다.");
+
+    private final HttpStatus status;
+    private final String message;
+
+    /**
+     * 요청 값이 구간이나 경로 규칙에 맞지 않아 거부된 경우인지. 대상이 없거나 연결된 경로가 없다는 조회 결과, 동시 수정 충돌은 포함하지 않는다.
+     */
+    public boolean isValidationRule() {
+        return switch (this) {
+            case SECTION_EMPTY_REQUEST, SECTION_STATION_ID_REQUIRED, SECTION_UP_STATION_NOT_TERMINAL,
+                    SECTION_DOWN_STATION_ALREADY_REGISTERED, SECTION_INVALID_DISTANCE, SECTION_NOT_TERMINAL,
+                    SECTION_SINGLE_REMAINING, PATH_SAME_STATIONS -> true;
+            default -> false;
+        };
+    }
+}
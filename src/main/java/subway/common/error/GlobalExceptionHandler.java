@@ -1,17 +1,53 @@
 package subway.common.error;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpStatus;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
-import org.springframework.web.bind.annotation.ResponseStatus;
+import subway.common.log.RateLimitedLogger;
+import subway.common.metrics.ServiceMetrics;
+
+import javax.servlet.http.HttpServletRequest;
+import java.time.Duration;
+import java.util.Map;
 
 @ControllerAdvice
 @Slf4j
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
-    @ResponseStatus(HttpStatus.BAD_REQUEST)
-    @ExceptionHandler({NotFoundException.class, InvalidSectionRequestException.class})
-    public void handleBadRequestExceptions(Exception e) {
-        log.error(e.getMessage());
+    private static final RateLimitedLogger CLIENT_ERROR_LOG = new RateLimitedLogger(log, 10, Duration.ofSeconds(1));
+
+    private final ServiceMetrics serviceMetrics;
+
+    @ExceptionHandler(SubwayException.class)
+    public ResponseEntity<ProblemResponse> handleSubwayException(SubwayException e, HttpServletRequest request) {
+        ErrorCode errorCode = e.getErrorCode();
+        if (errorCode.isValidationRule()) {
+            serviceMetrics.recordValidationFailure(errorCode);
+        }
+        CLIENT_ERROR_LOG.warn("{} {} {}", errorCode, request.getRequestURI(), e.getArguments());
+        return problem(errorCode, request, e.getArguments());
+    }
+
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ResponseEntity<ProblemResponse> handleConcurrencyFailureException(ConcurrencyFailureException e, HttpServletRequest request) {
+        CLIENT_ERROR_LOG.warn("{} {} {}", ErrorCode.CONCURRENT_MODIFICATION, request.getRequestURI(), e.getMessage());
+        return problem(ErrorCode.CONCURRENT_MODIFICATION, request, Map.of());
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ProblemResponse> handleDataIntegrityViolationException(DataIntegrityViolationException e, HttpServletRequest request) {
+        CLIENT_ERROR_LOG.warn("{} {} {}", ErrorCode.DATA_CONFLICT, request.getRequestURI(), e.getMostSpecificCause().getMessage());
+        return problem(ErrorCode.DATA_CONFLICT, request, Map.of());
+    }
+
+    private static ResponseEntity<ProblemResponse> problem(ErrorCode errorCode, HttpServletRequest request, Map<String, Object> arguments) {
+        return ResponseEntity.status(errorCode.getStatus())
+                .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+                .body(ProblemResponse.of(errorCode, request.getRequestURI(), arguments));
     }
 }
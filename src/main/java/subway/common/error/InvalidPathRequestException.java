@@ -0,0 +1,13 @@
+package subway.common.error;
+
+import java.util.Map;
+
+public class InvalidPathRequestException extends SubwayException {
+    public InvalidPathRequestException(ErrorCode errorCode) {
+        super(errorCode, Map.of());
+    }
+
+    public InvalidPathRequestException(ErrorCode errorCode, Map<String, Object> arguments) {
+        super(errorCode, arguments);
+    }
+}
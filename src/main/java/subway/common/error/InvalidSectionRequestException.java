@@ -2,12 +2,12 @@ package subway.common.error;
 
 import java.util.Map;
 
-public class InvalidSectionRequestException extends RuntimeException {
-    public InvalidSectionRequestException(String message) {
-        super(message);
+public class InvalidSectionRequestException extends SubwayException {
+    public InvalidSectionRequestException(ErrorCode errorCode) {
+        super(errorCode, Map.of());
     }
 
-    public InvalidSectionRequestException(String message, Map<String, String> arguments) {
-        super(message + " Details: " + arguments);
+    public InvalidSectionRequestException(ErrorCode errorCode, Map<String, Object> arguments) {
+        super(errorCode, arguments);
     }
 }
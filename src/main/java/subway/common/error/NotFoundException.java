@@ -1,13 +1,14 @@
 package subway.common.error;
 
+import java.util.Collections;
 import java.util.Map;
 
-public class NotFoundException extends RuntimeException {
+public class NotFoundException extends SubwayException {
     public NotFoundException(Long id) {
-        super(String.format("Entity not found with id: %d", id));
+        super(ErrorCode.NOT_FOUND, Collections.singletonMap("id", id));
     }
 
-    public NotFoundException(Map<String, String> arguments) {
-        super("Entity not found. Details: " + arguments);
+    public NotFoundException(Map<String, Object> arguments) {
+        super(ErrorCode.NOT_FOUND, arguments);
     }
 }
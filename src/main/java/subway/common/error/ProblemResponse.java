@@ -0,0 +1,20 @@
+package subway.common.error;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+
+/**
+ * RFC 7807 문제 상세 응답. {@code type}이 {@code about:blank}이므로 {@code title}은 HTTP 상태 문구를 쓰고,
+ * 오류 코드와 요청 값은 확장 필드로 싣는다.
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public record ProblemResponse(String type, String title, int status, String detail, String instance,
+                              ErrorCode code, Map<String, Object> arguments) {
+    private static final String DEFAULT_TYPE = "about:blank";
+
+    public static ProblemResponse of(ErrorCode errorCode, String instance, Map<String, Object> arguments) {
+        return new ProblemResponse(DEFAULT_TYPE, errorCode.getStatus().getReasonPhrase(), errorCode.getStatus().value(),
+                errorCode.getMessage(), instance, errorCode, arguments);
+    }
+}
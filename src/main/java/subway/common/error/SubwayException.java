@@ -0,0 +1,26 @@
+package subway.common.error;
+
+import java.util.Map;
+
+/**
+ * 클라이언트 요청으로 인한 예외. 잘못된 요청이 몰려도 비용이 적도록 스택 트레이스를 기록하지 않고,
+ * 메시지는 오류 코드의 고정 문구를 그대로 쓰며 요청 값은 문자열로 변환하지 않은 채 보관한다.
+ */
+public abstract class SubwayException extends RuntimeException {
+    private final ErrorCode errorCode;
+    private final Map<String, Object> arguments;
+
+    protected SubwayException(ErrorCode errorCode, Map<String, Object> arguments) {
+        super(errorCode.getMessage(), null, false, false);
+        this.errorCode = errorCode;
+        this.arguments = arguments;
+    }
+
+    public ErrorCode getErrorCode() {
+        return errorCode;
+    }
+
+    public Map<String, Object> getArguments() {
+        return arguments;
+    }
+}
@@ -0,0 +1,50 @@
+package subway.common.log;
+
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 구간마다 정해진 수까지만 기록하는 로거. 초과분은 개수만 세었다가 다음 구간의 첫 기록과 함께 남긴다.
+ */
+public class RateLimitedLogger {
+    private final Logger logger;
+    private final int permitsPerWindow;
+    private final long windowNanos;
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final AtomicInteger permitsUsed = new AtomicInteger();
+    private final AtomicLong suppressed = new AtomicLong();
+
+    public RateLimitedLogger(Logger logger, int permitsPerWindow, Duration window) {
+        this.logger = logger;
+        this.permitsPerWindow = permitsPerWindow;
+        this.windowNanos = window.toNanos();
+    }
+
+    public void warn(String format, Object... arguments) {
+        if (!logger.isWarnEnabled()) {
+            return;
+        }
+        if (!tryAcquire()) {
+            suppressed.incrementAndGet();
+            return;
+        }
+
+        long suppressedCount = suppressed.getAndSet(0);
+        if (suppressedCount > 0) {
+            logger.warn("{} similar log messages were suppressed", suppressedCount);
+        }
+        logger.warn(format, arguments);
+    }
+
+    private boolean tryAcquire() {
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        if (now - start >= windowNanos && windowStart.compareAndSet(start, now)) {
+            permitsUsed.set(0);
+        }
+        return permitsUsed.incrementAndGet() <= permitsPerWindow;
+    }
+}
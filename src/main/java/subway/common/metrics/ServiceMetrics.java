@@ -0,0 +1,22 @@
+package subway.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import subway.common.error.ErrorCode;
+
+/**
+ * 서비스 지표 이름과 기록. 서비스 메서드 지연은 {@code @Timed(SERVICE_TIMER)}로, 검증 규칙에 걸린 요청 거부는 규칙별 카운터로 남긴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ServiceMetrics {
+    public static final String SERVICE_TIMER = "subway.service";
+    private static final String VALIDATION_FAILURE_COUNTER = "subway.validation.failures";
+
+    private final MeterRegistry meterRegistry;
+
+    public void recordValidationFailure(ErrorCode errorCode) {
+        meterRegistry.counter(VALIDATION_FAILURE_COUNTER, "rule", errorCode.name()).increment();
+    }
+}
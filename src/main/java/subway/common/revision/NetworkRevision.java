@@ -0,0 +1,76 @@
+package subway.common.revision;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 역, 노선, 구간 변경이 커밋된 뒤 시퀀스에서 값을 하나 받아 가는 영속 카운터.
+ * 인스턴스나 재시작과 관계없이 단조 증가하므로, 개수만으로는 구분되지 않는 삭제 후 재생성도 알아챌 수 있다.
+ * 행을 갱신하지 않으므로 쓰기끼리 잠금을 두고 줄 서지 않는다. 커밋 뒤에 올리므로 값을 먼저 읽고 데이터를 읽은 쪽은
+ * 그 사이 커밋된 변경을 놓쳐도 다음에 읽는 값이 달라진다. 값을 받아 간 뒤 실패해도 변경이 없는데 값만 바뀔 뿐이다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NetworkRevision {
+    public static final String CURRENT_QUERY =
+            "select base_value from information_schema.sequences where sequence_name = 'network_revision_seq'";
+    private static final String NEXT_QUERY = "select next value for network_revision_seq";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AtomicLong advances = new AtomicLong();
+    private final AtomicReference<Observed> recent = new AtomicReference<>();
+
+    public void increment() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            advance();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                advance();
+            }
+        });
+    }
+
+    public long current() {
+        Long revision = jdbcTemplate.queryForObject(CURRENT_QUERY, Long.class);
+        return revision == null ? 0 : revision;
+    }
+
+    /**
+     * {@code maxAge} 안에 읽은 값이 있고 그 뒤로 이 인스턴스에서 올린 적이 없으면 데이터베이스를 읽지 않고 돌려준다.
+     * 다른 인스턴스가 올린 값은 {@code maxAge}가 지나야 보인다.
+     */
+    public long recent(Duration maxAge) {
+        long generation = advances.get();
+        Observed observed = recent.get();
+        long now = System.nanoTime();
+        if (observed != null && observed.generation() == generation && now - observed.readAt() < maxAge.toNanos()) {
+            return observed.value();
+        }
+
+        long revision = current();
+        recent.set(new Observed(revision, generation, now));
+        return revision;
+    }
+
+    public void forgetRecent() {
+        recent.set(null);
+    }
+
+    private void advance() {
+        jdbcTemplate.queryForObject(NEXT_QUERY, Long.class);
+        advances.incrementAndGet();
+    }
+
+    private record Observed(long value, long generation, long readAt) {
+    }
+}
@@ -0,0 +1,47 @@
+package subway.line.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import subway.line.dto.LineResponse;
+import subway.line.event.LineChangedEvent;
+
+import java.util.Optional;
+
+/**
+ * 노선 조회 응답 캐시. 노선 변경이 커밋된 뒤에 해당 노선만 제거한다.
+ * 조회는 {@code sync = true}로 키 단위 원자적 적재를 하므로, 커밋 직전에 시작된 적재가 끝난 뒤에 제거가 일어난다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LineCache {
+    public static final String NAME = "lines";
+
+    private final CacheManager cacheManager;
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onLineChanged(LineChangedEvent event) {
+        getCache().ifPresent(cache -> cache.evict(event.lineId()));
+    }
+
+    public void evict(Long lineId) {
+        getCache().ifPresent(cache -> cache.evict(lineId));
+    }
+
+    public void putIfAbsent(LineResponse lineResponse) {
+        getCache().ifPresent(cache -> cache.putIfAbsent(lineResponse.getId(), lineResponse));
+    }
+
+    public void clear() {
+        getCache().ifPresent(Cache::clear);
+    }
+
+    private Optional<Cache> getCache() {
+        return Optional.ofNullable(cacheManager.getCache(NAME));
+    }
+}
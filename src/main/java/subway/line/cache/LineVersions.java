@@ -0,0 +1,80 @@
+package subway.line.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import subway.common.config.ResponseFormat;
+import subway.common.revision.NetworkRevision;
+import subway.line.event.LineChangedEvent;
+import subway.line.repository.LineRepository;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 노선 조회 응답의 ETag. 데이터베이스에 저장된 값에서 만들므로 인스턴스가 여러 개이거나 재시작해도 같은 상태에는 같은 ETag가 나간다.
+ * 노선은 {@code @Version} 값을, 노선 목록은 노선 생성과 삭제에도 증가하는 노선도 리비전을 쓴다.
+ * JSON과 Smile은 바이트가 다른 표현이므로 ETag에 표현을 넣어 구분하고, gzip 여부만 다른 응답은 같게 보도록 약한 ETag를 쓴다.
+ * <p>
+ * 304 응답이 데이터베이스를 거치지 않도록 읽은 값을 {@code subway.etag.version-ttl} 동안 메모리에 둔다.
+ * 이 인스턴스의 변경은 커밋 직후 바로 반영하고, 다른 인스턴스의 변경은 그 시간이 지나야 보인다.
+ */
+@Component
+public class LineVersions {
+    private static final int MAX_CACHED_VERSIONS = 1000;
+
+    private final LineRepository lineRepository;
+    private final NetworkRevision networkRevision;
+    private final Duration versionTtl;
+    private final Cache<Long, Long> versions;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public LineVersions(LineRepository lineRepository,
+                        NetworkRevision networkRevision,
+                        @Value("${subway.etag.version-ttl:PT1S}") Duration versionTtl) {
+        this.lineRepository = lineRepository;
+        this.networkRevision = networkRevision;
+        this.versionTtl = versionTtl;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(MAX_CACHED_VERSIONS)
+                .expireAfterWrite(versionTtl)
+                .build();
+    }
+
+    @TransactionalEventListener
+    public void onLineChanged(LineChangedEvent event) {
+        invalidations.incrementAndGet();
+        versions.invalidate(event.lineId());
+    }
+
+    /**
+     * 읽는 동안 커밋된 변경이 있었다면 읽은 값이 이전 버전일 수 있으므로 메모리에 두지 않는다.
+     */
+    public Optional<Long> findVersion(Long lineId) {
+        Long cached = versions.getIfPresent(lineId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long seen = invalidations.get();
+        Optional<Long> version = lineRepository.findVersionById(lineId);
+        version.ifPresent(value -> versions.asMap().compute(lineId, (id, current) -> invalidations.get() == seen ? value : current));
+        return version;
+    }
+
+    public String lineETag(Long lineId, long version, ResponseFormat format) {
+        return String.format("W/\"line-%d-%d-%s\"", lineId, version, format.tag());
+    }
+
+    public String collectionETag(ResponseFormat format) {
+        return String.format("W/\"lines-%d-%s\"", networkRevision.recent(versionTtl), format.tag());
+    }
+
+    public void clear() {
+        versions.invalidateAll();
+        networkRevision.forgetRecent();
+    }
+}
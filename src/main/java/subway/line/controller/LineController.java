@@ -1,11 +1,18 @@
 package subway.line.controller;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import subway.common.config.ResponseFormat;
+import subway.common.error.NotFoundException;
+import subway.line.cache.LineCache;
+import subway.line.cache.LineVersions;
 import subway.line.dto.CreateLineRequest;
 import subway.line.dto.LineResponse;
+import subway.line.dto.LineSearchCondition;
 import subway.line.dto.ModifyLineRequest;
 import subway.line.dto.ModifyLineResponse;
 import subway.line.service.LineService;
@@ -18,7 +25,13 @@ import java.util.List;
 @RestController
 @RequiredArgsConstructor
 public class LineController {
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final String STATIONS_FIELD = "stations";
+
     private final LineService lineService;
+    private final LineVersions lineVersions;
+    private final LineCache lineCache;
 
     @PostMapping("/lines")
     public ResponseEntity<LineResponse> createLine(@RequestBody CreateLineRequest createLineRequest) {
@@ -26,16 +39,48 @@ public class LineController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdLine);
     }
 
+    /**
+     * 조건이 하나라도 있으면 id 순 키셋 페이지로 조회한다. {@code fields}에 {@code stations}가 없으면 역 목록을 생략한다.
+     */
     @GetMapping("/lines")
-    public ResponseEntity<List<LineResponse>> findLines() {
-        List<LineResponse> lines = lineService.findAllLines();
-        return ResponseEntity.ok(lines);
+    public ResponseEntity<List<LineResponse>> findLines(@RequestParam(required = false) Long afterId,
+                                                        @RequestParam(required = false) Integer limit,
+                                                        @RequestParam(required = false) String namePrefix,
+                                                        @RequestParam(required = false) String color,
+                                                        @RequestParam(required = false) List<String> fields,
+                                                        WebRequest request) {
+        String eTag = lineVersions.collectionETag(ResponseFormat.of(request.getHeader(HttpHeaders.ACCEPT)));
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
+        if (afterId == null && limit == null && namePrefix == null && color == null && fields == null) {
+            return ResponseEntity.ok().eTag(eTag).body(lineService.findAllLines());
+        }
+
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        boolean withStations = fields == null || fields.contains(STATIONS_FIELD);
+        LineSearchCondition condition = new LineSearchCondition(afterId == null ? 0L : afterId, pageSize, namePrefix, color, withStations);
+        return ResponseEntity.ok().eTag(eTag).body(lineService.findLines(condition));
     }
 
+    /**
+     * 메모리에 둔 버전으로 ETag를 먼저 확인한다. 커밋 직후 캐시 제거 전이라 캐시의 응답이 그 버전보다 오래됐다면 다시 읽는다.
+     */
     @GetMapping("/lines/{id}")
-    public ResponseEntity<LineResponse> findLine(@PathVariable Long id) {
+    public ResponseEntity<LineResponse> findLine(@PathVariable Long id, WebRequest request) {
+        long version = lineVersions.findVersion(id).orElseThrow(() -> new NotFoundException(id));
+        String eTag = lineVersions.lineETag(id, version, ResponseFormat.of(request.getHeader(HttpHeaders.ACCEPT)));
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+
         LineResponse line = lineService.findLine(id);
-        return ResponseEntity.ok(line);
+        if (line.getVersion() == null || line.getVersion() < version) {
+            lineCache.evict(id);
+            line = lineService.findLine(id);
+        }
+        return ResponseEntity.ok().eTag(eTag).body(line);
     }
 
     @PutMapping("/lines/{id}")
@@ -57,6 +102,12 @@ public class LineController {
         return ResponseEntity.status(HttpStatus.CREATED).body(addSectionResponse);
     }
 
+    @PostMapping("/lines/{lineId}/sections/batch")
+    public ResponseEntity<List<AddSectionResponse>> addSections(@PathVariable Long lineId, @RequestBody List<AddSectionRequest> addSectionRequests) {
+        List<AddSectionResponse> addSectionResponses = lineService.addSections(lineId, addSectionRequests);
+        return ResponseEntity.status(HttpStatus.CREATED).body(addSectionResponses);
+    }
+
     @GetMapping("/lines/{lineId}/sections")
     public ResponseEntity<List<SectionResponse>> findSections(@PathVariable Long lineId) {
         List<SectionResponse> sections = lineService.findSections(lineId);
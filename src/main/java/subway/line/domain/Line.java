@@ -5,6 +5,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import subway.common.BaseEntity;
+import subway.common.error.ErrorCode;
 import subway.common.error.InvalidSectionRequestException;
 import subway.section.domain.Section;
 import subway.station.domain.Station;
@@ -12,9 +13,16 @@ import subway.station.domain.Station;
 import javax.persistence.Column;
 import javax.persistence.Embedded;
 import javax.persistence.Entity;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
+import javax.persistence.Version;
 import java.util.List;
+import java.util.Map;
 
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_line_name", columnNames = "name"),
+        indexes = @Index(name = "idx_line_color", columnList = "color"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Line extends BaseEntity {
@@ -26,6 +34,9 @@ public class Line extends BaseEntity {
     @Column(length = 20, nullable = false)
     private String color;
 
+    @Version
+    private Long version;
+
     @Embedded
     Sections sections = new Sections();
 
@@ -55,11 +66,11 @@ public class Line extends BaseEntity {
 
     public void removeSection(Long stationId) {
         if (!sections.isTerminalStationId(stationId)) {
-            throw new InvalidSectionRequestException("마지막 구간만 삭제할 수 있습니다.");
+            throw new InvalidSectionRequestException(ErrorCode.SECTION_NOT_TERMINAL, Map.of("stationId", stationId));
         }
 
         if (sections.hasLessThanTwoSections()) {
-            throw new InvalidSectionRequestException("구간이 2개 이상일 때만 삭제할 수 있습니다.");
+            throw new InvalidSectionRequestException(ErrorCode.SECTION_SINGLE_REMAINING);
         }
 
         this.sections.removeLast();
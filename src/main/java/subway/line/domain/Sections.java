@@ -1,21 +1,51 @@
 package subway.line.domain;
 
+import org.hibernate.annotations.BatchSize;
+import subway.common.error.ErrorCode;
 import subway.common.error.InvalidSectionRequestException;
 import subway.section.domain.Section;
+import subway.section.domain.SectionChain;
 import subway.station.domain.Station;
 
 import javax.persistence.CascadeType;
 import javax.persistence.OneToMany;
+import javax.persistence.Transient;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Stream;
+import java.util.Set;
 
 public class Sections {
+    @BatchSize(size = 100)
     @OneToMany(mappedBy = "line", cascade = CascadeType.ALL, orphanRemoval = true)
     private final List<Section> sections = new ArrayList<>();
 
+    /**
+     * 구간 목록에서 파생되는 값들. 컬렉션 초기화를 강제하지 않도록 처음 필요할 때 구성하고, 이후에는 구간 추가/삭제 시 함께 갱신한다.
+     * 조회된 구간의 순서는 보장되지 않으므로 상행역-하행역 연결을 따라 순서를 복원한 목록을 기준으로 삼는다.
+     */
+    @Transient
+    private List<Section> orderedSections;
+
+    @Transient
+    private List<Section> orderedSectionsView;
+
+    @Transient
+    private Set<Long> stationIds;
+
+    @Transient
+    private List<Station> stations;
+
+    @Transient
+    private List<Station> stationsView;
+
+    @Transient
+    private int totalDistance;
+
     public Long getOriginStationId() {
         return getFirst().getUpStationId();
     }
@@ -25,11 +55,13 @@ public class Sections {
     }
 
     public Section getFirst() {
-        return sections.get(0);
+        ensureIndexed();
+        return orderedSections.get(0);
     }
 
     public Section getLast() {
-        return sections.get(sections.size() - 1);
+        ensureIndexed();
+        return orderedSections.get(orderedSections.size() - 1);
     }
 
     public void add(Section section) {
@@ -40,22 +72,38 @@ public class Sections {
         }
 
         sections.add(section);
+        if (isIndexed()) {
+            index(section);
+        }
     }
 
     public void removeLast() {
-        sections.remove(getLast());
+        ensureIndexed();
+        Section last = orderedSections.remove(orderedSections.size() - 1);
+        sections.remove(sections.lastIndexOf(last));
+        stations.remove(stations.size() - 1);
+        stationIds.remove(last.getDownStationId());
+        totalDistance -= last.getDistance();
+    }
+
+    public boolean containsStationId(Long stationId) {
+        ensureIndexed();
+        return stationIds.contains(stationId);
+    }
+
+    public List<Section> asList() {
+        ensureIndexed();
+        return orderedSectionsView;
     }
 
     public List<Station> getStations() {
-        return sections.stream()
-                .flatMap(section -> Stream.of(section.getUpStation(), section.getDownStation()))
-                .toList();
+        ensureIndexed();
+        return stationsView;
     }
 
-    public Integer getTotalDistance() {
-        return sections.stream()
-                .mapToInt(Section::getDistance)
-                .sum();
+    public int getTotalDistance() {
+        ensureIndexed();
+        return totalDistance;
     }
 
     public boolean hasLessThanTwoSections() {
@@ -63,39 +111,67 @@ public class Sections {
     }
 
     private void validateUpStationId(Section section) {
-        Line line = section.getLine();
-        Long upStationId = section.getUpStationId();
-
-        if (!Objects.equals(upStationId, getTerminalStationId())) {
-            throw new InvalidSectionRequestException("해당 노선의 하행종점역이 아닌 역이 상행역으로 설정되었습니다.",
-                    Map.of(
-                            "lineId", line.getId().toString(),
-                            "upStationId", upStationId.toString(),
-                            "downStationId", section.getDownStationId().toString()
-                    ));
+        if (!Objects.equals(section.getUpStationId(), getTerminalStationId())) {
+            throw new InvalidSectionRequestException(ErrorCode.SECTION_UP_STATION_NOT_TERMINAL,
+                    arguments(section));
         }
     }
 
     private void validateDownStationId(Section section) {
-        Line line = section.getLine();
-        Station downStation = section.getDownStation();
-        if (line.getStations().contains(downStation)) {
-            throw new InvalidSectionRequestException("이미 노선에 등록된 역을 새로운 구간의 하행역으로 등록하였습니다.",
-                    Map.of(
-                            "lineId", line.getId().toString(),
-                            "upStationId", section.getUpStationId().toString(),
-                            "downStationId", section.getDownStationId().toString()
-                    ));
+        if (containsStationId(section.getDownStationId())) {
+            throw new InvalidSectionRequestException(ErrorCode.SECTION_DOWN_STATION_ALREADY_REGISTERED,
+                    arguments(section));
         }
     }
 
+    /**
+     * 아직 저장되지 않은 노선이나 역의 ID는 null일 수 있으므로 null을 허용하는 맵에 담는다.
+     */
+    private static Map<String, Object> arguments(Section section) {
+        Map<String, Object> arguments = new LinkedHashMap<>();
+        arguments.put("lineId", section.getLine().getId());
+        arguments.put("upStationId", section.getUpStationId());
+        arguments.put("downStationId", section.getDownStationId());
+        return arguments;
+    }
+
     private void validateDistance(Section section) {
         if (section.getDistance() < 1) {
-            throw new InvalidSectionRequestException("길이가 0인 구간은 등록할 수 없습니다.");
+            throw new InvalidSectionRequestException(ErrorCode.SECTION_INVALID_DISTANCE);
         }
     }
 
     public boolean isTerminalStationId(Long id) {
         return getTerminalStationId().equals(id);
     }
+
+    private boolean isIndexed() {
+        return stations != null;
+    }
+
+    private void ensureIndexed() {
+        if (isIndexed()) {
+            return;
+        }
+
+        List<Section> ordered = SectionChain.order(sections, Section::getUpStationId, Section::getDownStationId);
+        orderedSections = new ArrayList<>(ordered.size() + 1);
+        orderedSectionsView = Collections.unmodifiableList(orderedSections);
+        stationIds = new HashSet<>();
+        stations = new ArrayList<>(ordered.size() + 1);
+        stationsView = Collections.unmodifiableList(stations);
+        totalDistance = 0;
+        ordered.forEach(this::index);
+    }
+
+    private void index(Section section) {
+        orderedSections.add(section);
+        if (stations.isEmpty()) {
+            stations.add(section.getUpStation());
+            stationIds.add(section.getUpStationId());
+        }
+        stations.add(section.getDownStation());
+        stationIds.add(section.getDownStationId());
+        totalDistance += section.getDistance();
+    }
 }
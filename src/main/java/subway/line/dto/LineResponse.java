@@ -1,5 +1,7 @@
 package subway.line.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -16,5 +18,8 @@ public class LineResponse {
     private Long id;
     private String name;
     private String color;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     List<StationResponse> stations;
+    @JsonIgnore
+    private Long version;
 }
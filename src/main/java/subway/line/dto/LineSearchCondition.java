@@ -0,0 +1,8 @@
+package subway.line.dto;
+
+/**
+ * 노선 목록 조회 조건. {@code afterId} 다음 id부터 {@code limit}개를 id 순으로 조회하고,
+ * 이름 접두사와 색상은 값이 있을 때만 적용한다.
+ */
+public record LineSearchCondition(long afterId, int limit, String namePrefix, String color, boolean withStations) {
+}
@@ -0,0 +1,11 @@
+package subway.line.event;
+
+public record LineChangedEvent(Long lineId, boolean sectionsChanged) {
+    public static LineChangedEvent ofSections(Long lineId) {
+        return new LineChangedEvent(lineId, true);
+    }
+
+    public static LineChangedEvent ofAttributes(Long lineId) {
+        return new LineChangedEvent(lineId, false);
+    }
+}
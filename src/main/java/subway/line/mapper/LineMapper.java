@@ -15,6 +15,9 @@ public interface LineMapper {
 
     LineResponse toLineResponse(Line line);
 
+    @Mapping(target = "stations", ignore = true)
+    LineResponse toLineSummaryResponse(Line line);
+
     ModifyLineResponse toModifyLineResponse(Line line);
 
     @Mapping(target = "sections", ignore = true)
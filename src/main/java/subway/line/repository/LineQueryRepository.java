@@ -0,0 +1,10 @@
+package subway.line.repository;
+
+import subway.line.domain.Line;
+import subway.line.dto.LineSearchCondition;
+
+import java.util.List;
+
+public interface LineQueryRepository {
+    List<Line> findPage(LineSearchCondition condition);
+}
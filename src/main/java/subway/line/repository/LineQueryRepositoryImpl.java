@@ -0,0 +1,58 @@
+package subway.line.repository;
+
+import lombok.RequiredArgsConstructor;
+import subway.line.domain.Line;
+import subway.line.dto.LineSearchCondition;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 노선 목록 조회 조건 중 값이 있는 것만 where 절에 넣어, 이름과 색상 인덱스를 쓸 수 있는 쿼리를 만든다.
+ * 구간은 조회하지 않으며, 정렬과 limit 까지 SQL 에서 처리한다.
+ */
+@RequiredArgsConstructor
+public class LineQueryRepositoryImpl implements LineQueryRepository {
+    private static final char LIKE_ESCAPE = '\\';
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<Line> findPage(LineSearchCondition condition) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Line> query = builder.createQuery(Line.class);
+        Root<Line> line = query.from(Line.class);
+
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(builder.greaterThan(line.get("id"), condition.afterId()));
+        if (condition.namePrefix() != null) {
+            predicates.add(builder.like(line.get("name"), escapeLike(condition.namePrefix()) + "%", LIKE_ESCAPE));
+        }
+        if (condition.color() != null) {
+            predicates.add(builder.equal(line.get("color"), condition.color()));
+        }
+
+        query.select(line)
+                .where(predicates.toArray(Predicate[]::new))
+                .orderBy(builder.asc(line.get("id")));
+        return entityManager.createQuery(query)
+                .setMaxResults(condition.limit())
+                .getResultList();
+    }
+
+    private static String escapeLike(String value) {
+        StringBuilder escaped = new StringBuilder(value.length());
+        for (char c : value.toCharArray()) {
+            if (c == LIKE_ESCAPE || c == '%' || c == '_') {
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(c);
+        }
+        return escaped.toString();
+    }
+}
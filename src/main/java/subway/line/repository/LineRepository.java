@@ -1,7 +1,64 @@
 package subway.line.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import subway.line.domain.Line;
 
-public interface LineRepository extends JpaRepository<Line, Long> {
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.hibernate.annotations.QueryHints.PASS_DISTINCT_THROUGH;
+
+/**
+ * 노선 조회는 용도별 페치 플랜을 명시한다.
+ * 응답 매핑은 구간과 역까지, 구간 검증과 스냅샷은 역 id만 필요하므로 구간까지만 함께 조회한다.
+ * 구간 순서는 도메인이 역 연결을 따라 다시 맞추므로 구간은 정렬하지 않는다.
+ */
+public interface LineRepository extends JpaRepository<Line, Long>, LineQueryRepository {
+    @QueryHints(@QueryHint(name = PASS_DISTINCT_THROUGH, value = "false"))
+    @Query("select distinct l from Line l " +
+            "left join fetch l.sections.sections s " +
+            "left join fetch s.upStation " +
+            "left join fetch s.downStation " +
+            "order by l.id")
+    List<Line> findAllWithStations();
+
+    @QueryHints(@QueryHint(name = PASS_DISTINCT_THROUGH, value = "false"))
+    @Query("select distinct l from Line l " +
+            "left join fetch l.sections.sections s " +
+            "left join fetch s.upStation " +
+            "left join fetch s.downStation " +
+            "where l.id = :id")
+    Optional<Line> findByIdWithStations(@Param("id") Long id);
+
+    @QueryHints(@QueryHint(name = PASS_DISTINCT_THROUGH, value = "false"))
+    @Query("select distinct l from Line l " +
+            "left join fetch l.sections.sections s " +
+            "left join fetch s.upStation " +
+            "left join fetch s.downStation " +
+            "where l.id in :ids " +
+            "order by l.id")
+    List<Line> findAllWithStationsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @QueryHints(@QueryHint(name = PASS_DISTINCT_THROUGH, value = "false"))
+    @Query("select distinct l from Line l " +
+            "left join fetch l.sections.sections s " +
+            "order by l.id")
+    List<Line> findAllWithSections();
+
+    @QueryHints(@QueryHint(name = PASS_DISTINCT_THROUGH, value = "false"))
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("select distinct l from Line l " +
+            "left join fetch l.sections.sections s " +
+            "where l.id = :id")
+    Optional<Line> findByIdForUpdate(@Param("id") Long id);
+
+    @Query("select coalesce(l.version, 0) from Line l where l.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
 }
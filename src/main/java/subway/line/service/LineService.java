@@ -1,24 +1,41 @@
 package subway.line.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import subway.common.error.ErrorCode;
+import subway.common.error.InvalidSectionRequestException;
 import subway.common.error.NotFoundException;
+import subway.common.metrics.ServiceMetrics;
+import subway.common.revision.NetworkRevision;
+import subway.line.cache.LineCache;
 import subway.line.domain.Line;
 import subway.line.dto.CreateLineRequest;
 import subway.line.dto.LineResponse;
+import subway.line.dto.LineSearchCondition;
 import subway.line.dto.ModifyLineRequest;
 import subway.line.dto.ModifyLineResponse;
+import subway.line.event.LineChangedEvent;
 import subway.line.repository.LineRepository;
 import subway.section.domain.Section;
+import subway.section.domain.SectionChain;
+import subway.section.domain.SectionProjection;
 import subway.section.dto.AddSectionRequest;
 import subway.section.dto.AddSectionResponse;
 import subway.section.dto.SectionResponse;
 import subway.section.repository.SectionRepository;
 import subway.station.domain.Station;
-import subway.station.repository.StationRepository;
+import subway.station.service.StationResolver;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import static subway.common.Validation.setIfNotNull;
@@ -26,33 +43,56 @@ import static subway.line.mapper.LineMapper.LINE_MAPPER;
 import static subway.section.mapper.SectionMapper.SECTION_MAPPER;
 
 @Service
+@Timed(ServiceMetrics.SERVICE_TIMER)
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class LineService {
     private final LineRepository lineRepository;
     private final SectionRepository sectionRepository;
-    private final StationRepository stationRepository;
+    private final StationResolver stationResolver;
+    private final NetworkRevision networkRevision;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public LineResponse createLine(CreateLineRequest createLineRequest) {
         Line line = LINE_MAPPER.mapToLine(createLineRequest);
-        Station upStation = findStationById(createLineRequest.getUpStationId());
-        Station downStation = findStationById(createLineRequest.getDownStationId());
-        Section section = new Section(line, upStation, downStation, createLineRequest.getDistance());
+        Long upStationId = createLineRequest.getUpStationId();
+        Long downStationId = createLineRequest.getDownStationId();
+        Map<Long, Station> stations = stationResolver.resolveAll(requireStationIds(upStationId, downStationId));
+        Section section = new Section(line, stations.get(upStationId), stations.get(downStationId), createLineRequest.getDistance());
         line.addSection(section);
         Line savedLine = lineRepository.save(line);
+        publishChange(LineChangedEvent.ofSections(savedLine.getId()));
         return LINE_MAPPER.toLineResponse(savedLine);
     }
 
     public List<LineResponse> findAllLines() {
-        return lineRepository.findAll()
+        return lineRepository.findAllWithStations()
                 .stream()
                 .map(LINE_MAPPER::toLineResponse)
                 .collect(Collectors.toList());
     }
 
+    public List<LineResponse> findLines(LineSearchCondition condition) {
+        List<Line> lines = lineRepository.findPage(condition);
+        if (!condition.withStations() || lines.isEmpty()) {
+            return lines.stream()
+                    .map(LINE_MAPPER::toLineSummaryResponse)
+                    .collect(Collectors.toList());
+        }
+
+        List<Long> ids = lines.stream()
+                .map(Line::getId)
+                .toList();
+        return lineRepository.findAllWithStationsByIdIn(ids)
+                .stream()
+                .map(LINE_MAPPER::toLineResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Cacheable(cacheNames = LineCache.NAME, key = "#id", sync = true)
     public LineResponse findLine(Long id) {
-        Line line = findLineById(id);
+        Line line = lineRepository.findByIdWithStations(id).orElseThrow(() -> new NotFoundException(id));
         return LINE_MAPPER.toLineResponse(line);
     }
 
@@ -61,6 +101,7 @@ public class LineService {
         Line line = findLineById(id);
         setIfNotNull(modifyLineRequest.getName(), line::setName);
         setIfNotNull(modifyLineRequest.getColor(), line::setColor);
+        publishChange(LineChangedEvent.ofAttributes(id));
         return LINE_MAPPER.toModifyLineResponse(line);
     }
 
@@ -70,43 +111,102 @@ public class LineService {
             throw new NotFoundException(id);
         }
         lineRepository.deleteById(id);
+        publishChange(LineChangedEvent.ofSections(id));
     }
 
+    @Retryable(value = ConcurrencyFailureException.class, maxAttempts = 3, backoff = @Backoff(delay = 10, maxDelay = 50, random = true))
     @Transactional
     public AddSectionResponse addSection(Long lineId, AddSectionRequest addSectionRequest) {
-        Line line = findLineById(lineId);
-        Station upStation = findStationById(addSectionRequest.getUpStationId());
-        Station downStation = findStationById(addSectionRequest.getDownStationId());
+        Line line = findLineByIdForUpdate(lineId);
+        Long upStationId = addSectionRequest.getUpStationId();
+        Long downStationId = addSectionRequest.getDownStationId();
+        Map<Long, Station> stations = stationResolver.resolveAll(requireStationIds(upStationId, downStationId));
 
         Section section = Section.builder()
                 .line(line)
-                .upStation(upStation)
-                .downStation(downStation)
+                .upStation(stations.get(upStationId))
+                .downStation(stations.get(downStationId))
                 .distance(addSectionRequest.getDistance())
                 .build();
 
         line.addSection(section);
+        publishChange(LineChangedEvent.ofSections(lineId));
         return SECTION_MAPPER.mapToCreateSectionResponse(section);
     }
 
+    @Retryable(value = ConcurrencyFailureException.class, maxAttempts = 3, backoff = @Backoff(delay = 10, maxDelay = 50, random = true))
+    @Transactional
+    public List<AddSectionResponse> addSections(Long lineId, List<AddSectionRequest> addSectionRequests) {
+        if (addSectionRequests.isEmpty()) {
+            throw new InvalidSectionRequestException(ErrorCode.SECTION_EMPTY_REQUEST);
+        }
+
+        List<Long> stationIds = requireStationIds(addSectionRequests);
+        Line line = findLineByIdForUpdate(lineId);
+        Map<Long, Station> stations = stationResolver.resolveAll(stationIds);
+
+        List<Section> sections = addSectionRequests.stream()
+                .map(request -> Section.builder()
+                        .line(line)
+                        .upStation(stations.get(request.getUpStationId()))
+                        .downStation(stations.get(request.getDownStationId()))
+                        .distance(request.getDistance())
+                        .build())
+                .toList();
+
+        sections.forEach(line::addSection);
+        publishChange(LineChangedEvent.ofSections(lineId));
+        return sections.stream()
+                .map(SECTION_MAPPER::mapToCreateSectionResponse)
+                .collect(Collectors.toList());
+    }
+
     public List<SectionResponse> findSections(Long lineId) {
-        List<Section> sections = sectionRepository.findAllByLine_Id(lineId);
+        List<SectionProjection> sections = SectionChain.order(sectionRepository.findAllProjectionsByLineId(lineId),
+                SectionProjection::upStationId, SectionProjection::downStationId);
         return sections.stream()
                 .map(SECTION_MAPPER::mapToSectionResponse)
                 .collect(Collectors.toList());
     }
 
+    @Retryable(value = ConcurrencyFailureException.class, maxAttempts = 3, backoff = @Backoff(delay = 10, maxDelay = 50, random = true))
     @Transactional
     public void deleteSection(Long lineId, Long stationId) {
-        Line line = findLineById(lineId);
+        Line line = findLineByIdForUpdate(lineId);
         line.removeSection(stationId);
+        publishChange(LineChangedEvent.ofSections(lineId));
+    }
+
+    private void publishChange(LineChangedEvent event) {
+        networkRevision.increment();
+        eventPublisher.publishEvent(event);
+    }
+
+    private static List<Long> requireStationIds(Long upStationId, Long downStationId) {
+        if (upStationId == null || downStationId == null) {
+            throw new InvalidSectionRequestException(ErrorCode.SECTION_STATION_ID_REQUIRED);
+        }
+        return List.of(upStationId, downStationId);
+    }
+
+    private static List<Long> requireStationIds(List<AddSectionRequest> addSectionRequests) {
+        List<Long> stationIds = new ArrayList<>(addSectionRequests.size() * 2);
+        for (int index = 0; index < addSectionRequests.size(); index++) {
+            AddSectionRequest request = addSectionRequests.get(index);
+            if (request == null || request.getUpStationId() == null || request.getDownStationId() == null) {
+                throw new InvalidSectionRequestException(ErrorCode.SECTION_STATION_ID_REQUIRED, Map.of("index", index));
+            }
+            stationIds.add(request.getUpStationId());
+            stationIds.add(request.getDownStationId());
+        }
+        return stationIds;
     }
 
     private Line findLineById(Long id) {
         return lineRepository.findById(id).orElseThrow(() -> new NotFoundException(id));
     }
 
-    private Station findStationById(Long id) {
-        return stationRepository.findById(id).orElseThrow(() -> new NotFoundException(id));
+    private Line findLineByIdForUpdate(Long id) {
+        return lineRepository.findByIdForUpdate(id).orElseThrow(() -> new NotFoundException(id));
     }
 }
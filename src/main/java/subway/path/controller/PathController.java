@@ -0,0 +1,21 @@
+package subway.path.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import subway.path.dto.PathResponse;
+import subway.path.service.PathService;
+
+@RestController
+@RequiredArgsConstructor
+public class PathController {
+    private final PathService pathService;
+
+    @GetMapping("/paths")
+    public ResponseEntity<PathResponse> findPath(@RequestParam Long source, @RequestParam Long target) {
+        PathResponse path = pathService.findPath(source, target);
+        return ResponseEntity.ok(path);
+    }
+}
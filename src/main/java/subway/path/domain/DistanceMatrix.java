@@ -0,0 +1,68 @@
+package subway.path.domain;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 모든 역 쌍의 최단 거리와 직전 정점을 미리 계산해 둔 표.
+ * 정점 수 n에 대해 n * n 크기의 int 배열 두 개를 쓰므로 작거나 중간 규모의 노선도에서만 사용한다.
+ */
+public class DistanceMatrix {
+    /**
+     * n * n이 int 배열 길이를 넘지 않는 최대 정점 수.
+     */
+    public static final int MAX_STATIONS = 46_340;
+
+    private final PathGraph graph;
+    private final int size;
+    private final int[] distances;
+    private final int[] previous;
+
+    private DistanceMatrix(PathGraph graph, int[] distances, int[] previous) {
+        this.graph = graph;
+        this.size = graph.size();
+        this.distances = distances;
+        this.previous = previous;
+    }
+
+    public static DistanceMatrix of(PathGraph graph) {
+        int size = graph.size();
+        if (size > MAX_STATIONS) {
+            throw new IllegalArgumentException("거리 표는 역 " + MAX_STATIONS + "개까지만 만들 수 있습니다: " + size);
+        }
+
+        int[] distances = new int[size * size];
+        int[] previous = new int[size * size];
+        int[] distanceRow = new int[size];
+        int[] previousRow = new int[size];
+        for (int source = 0; source < size; source++) {
+            graph.searchAll(source, distanceRow, previousRow);
+            System.arraycopy(distanceRow, 0, distances, source * size, size);
+            System.arraycopy(previousRow, 0, previous, source * size, size);
+        }
+        return new DistanceMatrix(graph, distances, previous);
+    }
+
+    public Optional<Path> findShortestPath(Long sourceStationId, Long targetStationId) {
+        int source = graph.vertexOf(sourceStationId);
+        int target = graph.vertexOf(targetStationId);
+        if (source == PathGraph.NONE || target == PathGraph.NONE) {
+            return Optional.empty();
+        }
+
+        int row = source * size;
+        int distance = distances[row + target];
+        if (distance == PathGraph.UNREACHABLE) {
+            return Optional.empty();
+        }
+
+        List<Long> path = new ArrayList<>();
+        for (int vertex = target; vertex != PathGraph.NONE; vertex = previous[row + vertex]) {
+            path.add(graph.stationIdOf(vertex));
+        }
+        Collections.reverse(path);
+        return Optional.of(new Path(path, distance));
+    }
+}
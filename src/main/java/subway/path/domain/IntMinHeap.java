@@ -0,0 +1,64 @@
+package subway.path.domain;
+
+/**
+ * (거리, 정점) 쌍을 박싱 없이 보관하는 이진 최소 힙.
+ */
+class IntMinHeap {
+    private final int[] nodes;
+    private final int[] distances;
+    private int size;
+
+    IntMinHeap(int capacity) {
+        this.nodes = new int[capacity];
+        this.distances = new int[capacity];
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    int peekNode() {
+        return nodes[0];
+    }
+
+    int peekDistance() {
+        return distances[0];
+    }
+
+    void push(int node, int distance) {
+        int index = size++;
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (distances[parent] <= distance) {
+                break;
+            }
+            nodes[index] = nodes[parent];
+            distances[index] = distances[parent];
+            index = parent;
+        }
+        nodes[index] = node;
+        distances[index] = distance;
+    }
+
+    void pop() {
+        int lastNode = nodes[--size];
+        int lastDistance = distances[size];
+        int index = 0;
+        int half = size >>> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            int right = child + 1;
+            if (right < size && distances[right] < distances[child]) {
+                child = right;
+            }
+            if (lastDistance <= distances[child]) {
+                break;
+            }
+            nodes[index] = nodes[child];
+            distances[index] = distances[child];
+            index = child;
+        }
+        nodes[index] = lastNode;
+        distances[index] = lastDistance;
+    }
+}
@@ -0,0 +1,13 @@
+package subway.path.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class Path {
+    private final List<Long> stationIds;
+    private final int distance;
+}
@@ -0,0 +1,144 @@
+package subway.path.domain;
+
+import subway.section.domain.SectionEdge;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 모든 구간을 양방향 간선으로 갖는 불변 그래프.
+ * 역 ID를 0부터 시작하는 정점 번호로 바꾸고 인접 목록을 CSR 형태의 int 배열로 보관한다.
+ */
+public class PathGraph {
+    static final int UNREACHABLE = Integer.MAX_VALUE;
+    static final int NONE = -1;
+
+    private final long[] stationIds;
+    private final Map<Long, Integer> vertices;
+    private final int[] edgeOffsets;
+    private final int[] edgeTargets;
+    private final int[] edgeDistances;
+
+    private PathGraph(long[] stationIds, Map<Long, Integer> vertices, int[] edgeOffsets, int[] edgeTargets, int[] edgeDistances) {
+        this.stationIds = stationIds;
+        this.vertices = vertices;
+        this.edgeOffsets = edgeOffsets;
+        this.edgeTargets = edgeTargets;
+        this.edgeDistances = edgeDistances;
+    }
+
+    public static PathGraph from(List<SectionEdge> edges) {
+        Map<Long, Integer> vertices = new HashMap<>();
+        int[] ups = new int[edges.size()];
+        int[] downs = new int[edges.size()];
+        for (int i = 0; i < edges.size(); i++) {
+            ups[i] = vertices.computeIfAbsent(edges.get(i).upStationId(), id -> vertices.size());
+            downs[i] = vertices.computeIfAbsent(edges.get(i).downStationId(), id -> vertices.size());
+        }
+
+        long[] stationIds = new long[vertices.size()];
+        vertices.forEach((stationId, vertex) -> stationIds[vertex] = stationId);
+
+        int[] edgeOffsets = new int[vertices.size() + 1];
+        for (int i = 0; i < edges.size(); i++) {
+            edgeOffsets[ups[i] + 1]++;
+            edgeOffsets[downs[i] + 1]++;
+        }
+        for (int vertex = 0; vertex < vertices.size(); vertex++) {
+            edgeOffsets[vertex + 1] += edgeOffsets[vertex];
+        }
+
+        int[] edgeTargets = new int[edges.size() * 2];
+        int[] edgeDistances = new int[edges.size() * 2];
+        int[] cursors = Arrays.copyOf(edgeOffsets, vertices.size());
+        for (int i = 0; i < edges.size(); i++) {
+            int distance = edges.get(i).distance();
+            int forward = cursors[ups[i]]++;
+            edgeTargets[forward] = downs[i];
+            edgeDistances[forward] = distance;
+            int backward = cursors[downs[i]]++;
+            edgeTargets[backward] = ups[i];
+            edgeDistances[backward] = distance;
+        }
+
+        return new PathGraph(stationIds, vertices, edgeOffsets, edgeTargets, edgeDistances);
+    }
+
+    public boolean contains(Long stationId) {
+        return vertices.containsKey(stationId);
+    }
+
+    public int size() {
+        return stationIds.length;
+    }
+
+    public Optional<Path> findShortestPath(Long sourceStationId, Long targetStationId) {
+        Integer source = vertices.get(sourceStationId);
+        Integer target = vertices.get(targetStationId);
+        if (source == null || target == null) {
+            return Optional.empty();
+        }
+
+        int[] distances = new int[size()];
+        int[] previous = new int[size()];
+        search(source, target, distances, previous);
+        if (distances[target] == UNREACHABLE) {
+            return Optional.empty();
+        }
+
+        List<Long> path = new ArrayList<>();
+        for (int vertex = target; vertex != NONE; vertex = previous[vertex]) {
+            path.add(stationIds[vertex]);
+        }
+        Collections.reverse(path);
+        return Optional.of(new Path(path, distances[target]));
+    }
+
+    int vertexOf(Long stationId) {
+        Integer vertex = vertices.get(stationId);
+        return vertex == null ? NONE : vertex;
+    }
+
+    long stationIdOf(int vertex) {
+        return stationIds[vertex];
+    }
+
+    void searchAll(int source, int[] distances, int[] previous) {
+        search(source, NONE, distances, previous);
+    }
+
+    private void search(int source, int target, int[] distances, int[] previous) {
+        Arrays.fill(distances, UNREACHABLE);
+        Arrays.fill(previous, NONE);
+        distances[source] = 0;
+
+        IntMinHeap heap = new IntMinHeap(edgeTargets.length + 1);
+        heap.push(source, 0);
+        while (!heap.isEmpty()) {
+            int vertex = heap.peekNode();
+            int distance = heap.peekDistance();
+            heap.pop();
+            if (distance > distances[vertex]) {
+                continue;
+            }
+            if (vertex == target) {
+                return;
+            }
+
+            for (int edge = edgeOffsets[vertex]; edge < edgeOffsets[vertex + 1]; edge++) {
+                int next = edgeTargets[edge];
+                int nextDistance = distance + edgeDistances[edge];
+                if (nextDistance < distances[next]) {
+                    distances[next] = nextDistance;
+                    previous[next] = vertex;
+                    heap.push(next, nextDistance);
+                }
+            }
+        }
+    }
+}
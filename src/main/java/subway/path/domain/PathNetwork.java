@@ -0,0 +1,24 @@
+package subway.path.domain;
+
+import java.util.Optional;
+
+/**
+ * 한 시점의 노선도로 만든 그래프와, 계산되어 있다면 거리 표를 함께 묶은 불변 값.
+ * 역 확인과 경로 탐색을 같은 값으로 처리해야 도중에 노선도가 바뀌어도 결과가 어긋나지 않는다.
+ */
+public record PathNetwork(PathGraph graph, DistanceMatrix matrix) {
+    public boolean contains(Long stationId) {
+        return graph.contains(stationId);
+    }
+
+    public boolean hasMatrix() {
+        return matrix != null;
+    }
+
+    public Optional<Path> findShortestPath(Long sourceStationId, Long targetStationId) {
+        if (matrix != null) {
+            return matrix.findShortestPath(sourceStationId, targetStationId);
+        }
+        return graph.findShortestPath(sourceStationId, targetStationId);
+    }
+}
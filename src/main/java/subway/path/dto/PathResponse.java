@@ -0,0 +1,18 @@
+package subway.path.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import subway.station.dto.StationResponse;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PathResponse {
+    private List<StationResponse> stations;
+    private int distance;
+}
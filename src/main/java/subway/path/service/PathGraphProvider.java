@@ -0,0 +1,134 @@
+package subway.path.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import subway.line.event.LineChangedEvent;
+import subway.path.domain.DistanceMatrix;
+import subway.path.domain.PathGraph;
+import subway.path.domain.PathNetwork;
+import subway.section.domain.SectionEdge;
+import subway.section.repository.SectionRepository;
+
+import javax.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 구간 변경이 커밋되면 그래프를 무효화하고, 다음 경로 조회 시 구간 스칼라 값만 읽어 다시 구성한다.
+ * 거리 표를 켜 두면 변경마다 백그라운드에서 표를 다시 계산하고, 계산이 끝나기 전까지는 그래프 탐색으로 응답한다.
+ */
+@Component
+public class PathGraphProvider {
+    private final SectionRepository sectionRepository;
+    private final boolean matrixEnabled;
+    private final int matrixMaxStations;
+    private final Executor matrixExecutor;
+    private final AtomicLong networkVersion = new AtomicLong();
+    private volatile Snapshot snapshot;
+
+    @Autowired
+    public PathGraphProvider(SectionRepository sectionRepository,
+                             @Value("${subway.path.matrix.enabled:false}") boolean matrixEnabled,
+                             @Value("${subway.path.matrix.max-stations:3000}") int matrixMaxStations) {
+        this(sectionRepository, matrixEnabled, matrixMaxStations, Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "path-matrix");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    PathGraphProvider(SectionRepository sectionRepository, boolean matrixEnabled, int matrixMaxStations, Executor matrixExecutor) {
+        this.sectionRepository = sectionRepository;
+        this.matrixEnabled = matrixEnabled;
+        this.matrixMaxStations = Math.min(matrixMaxStations, DistanceMatrix.MAX_STATIONS);
+        this.matrixExecutor = matrixExecutor;
+    }
+
+    /**
+     * 현재 노선도를 돌려준다. 백그라운드 갱신으로 교체되더라도 이미 받은 값은 바뀌지 않는다.
+     */
+    public PathNetwork getNetwork() {
+        return getSnapshot().network();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        scheduleMatrixRefresh();
+    }
+
+    @TransactionalEventListener
+    public void onLineChanged(LineChangedEvent event) {
+        if (event.sectionsChanged()) {
+            invalidate();
+        }
+    }
+
+    public synchronized void warm(List<SectionEdge> edges) {
+        if (snapshot == null) {
+            snapshot = new Snapshot(networkVersion.get(), new PathNetwork(PathGraph.from(edges), null));
+            scheduleMatrixRefresh();
+        }
+    }
+
+    public void invalidate() {
+        networkVersion.incrementAndGet();
+        scheduleMatrixRefresh();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (matrixExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private Snapshot getSnapshot() {
+        Snapshot current = snapshot;
+        if (current != null && current.version() == networkVersion.get()) {
+            return current;
+        }
+        return rebuild();
+    }
+
+    private synchronized Snapshot rebuild() {
+        long version = networkVersion.get();
+        Snapshot current = snapshot;
+        if (current != null && current.version() == version) {
+            return current;
+        }
+
+        snapshot = new Snapshot(version, new PathNetwork(PathGraph.from(sectionRepository.findAllEdges()), null));
+        return snapshot;
+    }
+
+    private void scheduleMatrixRefresh() {
+        if (matrixEnabled) {
+            matrixExecutor.execute(this::refreshMatrix);
+        }
+    }
+
+    private void refreshMatrix() {
+        Snapshot current = getSnapshot();
+        PathGraph graph = current.network().graph();
+        if (current.network().hasMatrix() || graph.size() > matrixMaxStations) {
+            return;
+        }
+
+        DistanceMatrix matrix = DistanceMatrix.of(graph);
+        synchronized (this) {
+            if (snapshot == current) {
+                snapshot = new Snapshot(current.version(), new PathNetwork(graph, matrix));
+            }
+        }
+    }
+
+    private record Snapshot(long version, PathNetwork network) {
+    }
+}
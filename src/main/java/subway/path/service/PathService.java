@@ -0,0 +1,78 @@
+package subway.path.service;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import subway.common.BaseEntity;
+import subway.common.error.ErrorCode;
+import subway.common.error.InvalidPathRequestException;
+import subway.common.error.NotFoundException;
+import subway.common.metrics.ServiceMetrics;
+import subway.path.domain.Path;
+import subway.path.domain.PathNetwork;
+import subway.path.dto.PathResponse;
+import subway.station.domain.Station;
+import subway.station.repository.StationRepository;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static subway.station.mapper.StationMapper.STATION_MAPPER;
+
+@Service
+@Timed(ServiceMetrics.SERVICE_TIMER)
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class PathService {
+    private final PathGraphProvider pathGraphProvider;
+    private final StationRepository stationRepository;
+
+    public PathResponse findPath(Long sourceStationId, Long targetStationId) {
+        if (Objects.equals(sourceStationId, targetStationId)) {
+            throw new InvalidPathRequestException(ErrorCode.PATH_SAME_STATIONS, Map.of("stationId", sourceStationId));
+        }
+
+        PathNetwork network = pathGraphProvider.getNetwork();
+        validateStationExists(network, sourceStationId);
+        validateStationExists(network, targetStationId);
+
+        Path path = network.findShortestPath(sourceStationId, targetStationId)
+                .orElseThrow(() -> new InvalidPathRequestException(ErrorCode.PATH_NOT_CONNECTED,
+                        Map.of(
+                                "source", sourceStationId,
+                                "target", targetStationId
+                        )));
+
+        return PathResponse.builder()
+                .stations(STATION_MAPPER.toStationResponses(findStationsInOrder(path.getStationIds())))
+                .distance(path.getDistance())
+                .build();
+    }
+
+    private void validateStationExists(PathNetwork network, Long stationId) {
+        if (!network.contains(stationId) && !stationRepository.existsById(stationId)) {
+            throw new NotFoundException(stationId);
+        }
+    }
+
+    /**
+     * 노선도를 읽은 뒤 경로의 역이 삭제되었을 수 있으므로, 찾지 못한 역이 있으면 null을 담지 않고 실패시킨다.
+     */
+    private List<Station> findStationsInOrder(List<Long> stationIds) {
+        Map<Long, Station> stations = stationRepository.findAllById(stationIds).stream()
+                .collect(Collectors.toMap(BaseEntity::getId, Function.identity()));
+        return stationIds.stream()
+                .map(stationId -> {
+                    Station station = stations.get(stationId);
+                    if (station == null) {
+                        throw new NotFoundException(stationId);
+                    }
+                    return station;
+                })
+                .toList();
+    }
+}
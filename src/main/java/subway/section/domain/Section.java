@@ -7,20 +7,29 @@ import subway.station.domain.Station;
 
 import javax.persistence.CascadeType;
 import javax.persistence.Entity;
+import javax.persistence.FetchType;
+import javax.persistence.Index;
 import javax.persistence.ManyToOne;
+import javax.persistence.Table;
+import javax.persistence.UniqueConstraint;
 
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 @Entity
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_section_line_down_station", columnNames = {"line_id", "down_station_id"}),
+        indexes = {
+                @Index(name = "idx_section_up_station", columnList = "up_station_id"),
+                @Index(name = "idx_section_down_station", columnList = "down_station_id")
+        })
 public class Section extends BaseEntity {
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @Setter
     private Line line;
 
-    @ManyToOne(cascade = CascadeType.PERSIST)
+    @ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.PERSIST)
     private Station upStation;
 
-    @ManyToOne(cascade = CascadeType.PERSIST)
+    @ManyToOne(fetch = FetchType.LAZY, cascade = CascadeType.PERSIST)
     private Station downStation;
 
     private int distance;
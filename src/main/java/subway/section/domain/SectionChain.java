@@ -0,0 +1,53 @@
+package subway.section.domain;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 구간은 상행역과 하행역으로 앞뒤 구간을 가리키는 연결 구조다. 저장 순서와 관계없이 상행역 id 맵을 따라가 O(n)에 순서를 복원한다.
+ */
+public final class SectionChain {
+    private SectionChain() {
+    }
+
+    public static <T> List<T> order(Collection<T> sections, Function<T, Long> upStationId, Function<T, Long> downStationId) {
+        Map<Long, T> sectionsByUpStationId = new HashMap<>(capacityOf(sections.size()));
+        Set<Long> downStationIds = new HashSet<>(capacityOf(sections.size()));
+        for (T section : sections) {
+            sectionsByUpStationId.put(upStationId.apply(section), section);
+            downStationIds.add(downStationId.apply(section));
+        }
+
+        List<T> ordered = new ArrayList<>(sections.size() + 1);
+        T section = sectionsByUpStationId.get(findOriginStationId(sections, upStationId, downStationIds));
+        while (section != null && ordered.size() < sections.size()) {
+            ordered.add(section);
+            section = sectionsByUpStationId.get(downStationId.apply(section));
+        }
+
+        if (ordered.size() != sections.size()) {
+            throw new IllegalStateException("구간이 하나의 경로로 이어지지 않습니다.");
+        }
+        return ordered;
+    }
+
+    private static <T> Long findOriginStationId(Collection<T> sections, Function<T, Long> upStationId, Set<Long> downStationIds) {
+        for (T section : sections) {
+            Long stationId = upStationId.apply(section);
+            if (!downStationIds.contains(stationId)) {
+                return stationId;
+            }
+        }
+        return null;
+    }
+
+    private static int capacityOf(int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+}
@@ -0,0 +1,4 @@
+package subway.section.domain;
+
+public record SectionEdge(Long upStationId, Long downStationId, int distance) {
+}
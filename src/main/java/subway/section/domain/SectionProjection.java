@@ -0,0 +1,4 @@
+package subway.section.domain;
+
+public record SectionProjection(Long id, Long upStationId, Long downStationId, int distance) {
+}
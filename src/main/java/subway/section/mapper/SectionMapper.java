@@ -4,6 +4,7 @@ import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.factory.Mappers;
 import subway.section.domain.Section;
+import subway.section.domain.SectionProjection;
 import subway.section.dto.*;
 import subway.station.mapper.StationMapper;
 
@@ -15,7 +16,5 @@ public interface SectionMapper {
     @Mapping(target = "downStationId", source = "downStation.id")
     AddSectionResponse mapToCreateSectionResponse(Section section);
 
-    @Mapping(target = "upStationId", source = "upStation.id")
-    @Mapping(target = "downStationId", source = "downStation.id")
-    SectionResponse mapToSectionResponse(Section section);
+    SectionResponse mapToSectionResponse(SectionProjection projection);
 }
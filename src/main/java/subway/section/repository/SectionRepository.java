@@ -1,10 +1,19 @@
 package subway.section.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import subway.section.domain.Section;
+import subway.section.domain.SectionEdge;
+import subway.section.domain.SectionProjection;
 
 import java.util.List;
 
 public interface SectionRepository extends JpaRepository<Section, Long> {
-    List<Section> findAllByLine_Id(Long lineId);
+    @Query("select new subway.section.domain.SectionProjection(s.id, s.upStation.id, s.downStation.id, s.distance) " +
+            "from Section s where s.line.id = :lineId")
+    List<SectionProjection> findAllProjectionsByLineId(@Param("lineId") Long lineId);
+
+    @Query("select new subway.section.domain.SectionEdge(s.upStation.id, s.downStation.id, s.distance) from Section s")
+    List<SectionEdge> findAllEdges();
 }
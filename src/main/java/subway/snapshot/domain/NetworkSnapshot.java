@@ -0,0 +1,21 @@
+package subway.snapshot.domain;
+
+import java.util.List;
+
+public record NetworkSnapshot(Fingerprint fingerprint, List<StationRecord> stations, List<LineRecord> lines) {
+    /**
+     * 스냅샷을 만든 시점의 데이터베이스 상태 요약. 리비전은 역, 노선, 구간이 바뀔 때마다 증가하므로
+     * 개수가 같게 남는 삭제 후 재생성도 구분한다. 개수는 리비전이 같은 다른 데이터베이스를 걸러낸다.
+     */
+    public record Fingerprint(long revision, long stationCount, long lineCount, long sectionCount) {
+    }
+
+    public record StationRecord(long id, String name) {
+    }
+
+    public record LineRecord(long id, long version, String name, String color, List<SectionRecord> sections) {
+    }
+
+    public record SectionRecord(long upStationId, long downStationId, int distance) {
+    }
+}
@@ -0,0 +1,158 @@
+package subway.snapshot.domain;
+
+import subway.snapshot.domain.NetworkSnapshot.Fingerprint;
+import subway.snapshot.domain.NetworkSnapshot.LineRecord;
+import subway.snapshot.domain.NetworkSnapshot.SectionRecord;
+import subway.snapshot.domain.NetworkSnapshot.StationRecord;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * 스냅샷 파일 형식: 헤더(매직 넘버, 형식 버전, 본문 길이, 본문 CRC32) 뒤에 고정 길이 정수와 길이가 앞에 붙은 UTF-8 문자열로 이루어진 본문.
+ */
+public final class NetworkSnapshotCodec {
+    private static final int MAGIC = 0x53554257;
+    private static final int FORMAT_VERSION = 3;
+    private static final int HEADER_SIZE = Integer.BYTES * 3 + Long.BYTES;
+
+    private NetworkSnapshotCodec() {
+    }
+
+    public static void write(Path file, NetworkSnapshot snapshot) throws IOException {
+        ByteBuffer payload = ByteBuffer.wrap(encode(snapshot));
+        CRC32 checksum = new CRC32();
+        checksum.update(payload.duplicate());
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                .putInt(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putInt(payload.remaining())
+                .putLong(checksum.getValue())
+                .flip();
+
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temporaryFile = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporaryFile, CREATE, WRITE, TRUNCATE_EXISTING)) {
+            while (header.hasRemaining()) {
+                channel.write(header);
+            }
+            while (payload.hasRemaining()) {
+                channel.write(payload);
+            }
+            channel.force(true);
+        }
+        Files.move(temporaryFile, file, REPLACE_EXISTING, ATOMIC_MOVE);
+    }
+
+    public static NetworkSnapshot read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+                throw new IOException("Unsupported snapshot format: " + file);
+            }
+
+            int length = buffer.getInt();
+            long expectedChecksum = buffer.getLong();
+            if (buffer.remaining() != length) {
+                throw new IOException("Truncated snapshot: " + file);
+            }
+
+            CRC32 checksum = new CRC32();
+            checksum.update(buffer.duplicate());
+            if (checksum.getValue() != expectedChecksum) {
+                throw new IOException("Snapshot checksum mismatch: " + file);
+            }
+            return decode(buffer);
+        }
+    }
+
+    private static byte[] encode(NetworkSnapshot snapshot) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            Fingerprint fingerprint = snapshot.fingerprint();
+            output.writeLong(fingerprint.revision());
+            output.writeLong(fingerprint.stationCount());
+            output.writeLong(fingerprint.lineCount());
+            output.writeLong(fingerprint.sectionCount());
+
+            output.writeInt(snapshot.stations().size());
+            for (StationRecord station : snapshot.stations()) {
+                output.writeLong(station.id());
+                writeString(output, station.name());
+            }
+
+            output.writeInt(snapshot.lines().size());
+            for (LineRecord line : snapshot.lines()) {
+                output.writeLong(line.id());
+                output.writeLong(line.version());
+                writeString(output, line.name());
+                writeString(output, line.color());
+                output.writeInt(line.sections().size());
+                for (SectionRecord section : line.sections()) {
+                    output.writeLong(section.upStationId());
+                    output.writeLong(section.downStationId());
+                    output.writeInt(section.distance());
+                }
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private static NetworkSnapshot decode(ByteBuffer buffer) {
+        Fingerprint fingerprint = new Fingerprint(buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong());
+
+        int stationCount = buffer.getInt();
+        List<StationRecord> stations = new ArrayList<>(stationCount);
+        for (int i = 0; i < stationCount; i++) {
+            stations.add(new StationRecord(buffer.getLong(), readString(buffer)));
+        }
+
+        int lineCount = buffer.getInt();
+        List<LineRecord> lines = new ArrayList<>(lineCount);
+        for (int i = 0; i < lineCount; i++) {
+            long id = buffer.getLong();
+            long version = buffer.getLong();
+            String name = readString(buffer);
+            String color = readString(buffer);
+            int sectionCount = buffer.getInt();
+            List<SectionRecord> sections = new ArrayList<>(sectionCount);
+            for (int j = 0; j < sectionCount; j++) {
+                sections.add(new SectionRecord(buffer.getLong(), buffer.getLong(), buffer.getInt()));
+            }
+            lines.add(new LineRecord(id, version, name, color, sections));
+        }
+        return new NetworkSnapshot(fingerprint, stations, lines);
+    }
+
+    private static void writeString(DataOutputStream output, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
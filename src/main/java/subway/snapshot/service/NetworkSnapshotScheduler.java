@@ -0,0 +1,66 @@
+package subway.snapshot.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import subway.snapshot.domain.NetworkSnapshot;
+import subway.snapshot.domain.NetworkSnapshotCodec;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * 시작 시 스냅샷 파일로 읽기 모델(경로 그래프, 노선 조회 캐시)을 채우고, 주기적으로 그리고 종료 시 스냅샷을 다시 기록한다.
+ * 파일이 없거나 손상되었거나 데이터베이스와 맞지 않으면 아무것도 채우지 않으므로 평소처럼 데이터베이스에서 읽는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "subway.snapshot.path")
+public class NetworkSnapshotScheduler {
+    private final NetworkSnapshotService networkSnapshotService;
+    private final Path snapshotFile;
+
+    public NetworkSnapshotScheduler(NetworkSnapshotService networkSnapshotService,
+                                    @Value("${subway.snapshot.path}") String snapshotPath) {
+        this.networkSnapshotService = networkSnapshotService;
+        this.snapshotFile = Path.of(snapshotPath);
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void load() {
+        if (!Files.exists(snapshotFile)) {
+            return;
+        }
+
+        try {
+            NetworkSnapshot snapshot = NetworkSnapshotCodec.read(snapshotFile);
+            if (networkSnapshotService.warm(snapshot)) {
+                log.info("Read model warmed from network snapshot: {}", snapshotFile);
+            } else {
+                log.info("Network snapshot is out of date, reading from database instead: {}", snapshotFile);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to load network snapshot, reading from database instead: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(initialDelayString = "${subway.snapshot.interval}", fixedDelayString = "${subway.snapshot.interval}")
+    public void save() {
+        try {
+            NetworkSnapshotCodec.write(snapshotFile, networkSnapshotService.capture());
+        } catch (IOException e) {
+            log.warn("Failed to write network snapshot: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void saveOnShutdown() {
+        save();
+    }
+}
@@ -0,0 +1,111 @@
+package subway.snapshot.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+import subway.common.revision.NetworkRevision;
+import subway.line.cache.LineCache;
+import subway.line.domain.Line;
+import subway.line.dto.LineResponse;
+import subway.line.repository.LineRepository;
+import subway.path.service.PathGraphProvider;
+import subway.section.domain.SectionEdge;
+import subway.snapshot.domain.NetworkSnapshot;
+import subway.snapshot.domain.NetworkSnapshot.Fingerprint;
+import subway.snapshot.domain.NetworkSnapshot.LineRecord;
+import subway.snapshot.domain.NetworkSnapshot.SectionRecord;
+import subway.snapshot.domain.NetworkSnapshot.StationRecord;
+import subway.station.dto.StationResponse;
+import subway.station.repository.StationRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class NetworkSnapshotService {
+    private static final String FINGERPRINT_QUERY = "select (" + NetworkRevision.CURRENT_QUERY + "), " +
+            "(select count(*) from station), (select count(*) from line), (select count(*) from section)";
+
+    private final StationRepository stationRepository;
+    private final LineRepository lineRepository;
+    private final PathGraphProvider pathGraphProvider;
+    private final LineCache lineCache;
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 지문과 역, 노선, 구간을 한 시점의 데이터로 읽도록 직렬화 가능 격리 수준의 읽기 전용 트랜잭션에서 읽는다.
+     */
+    @Transactional(readOnly = true, isolation = Isolation.SERIALIZABLE)
+    public NetworkSnapshot capture() {
+        Fingerprint fingerprint = fingerprint();
+        List<StationRecord> stations = stationRepository.findAll().stream()
+                .map(station -> new StationRecord(station.getId(), station.getName()))
+                .toList();
+        List<LineRecord> lines = lineRepository.findAllWithSections().stream()
+                .map(NetworkSnapshotService::toLineRecord)
+                .toList();
+        return new NetworkSnapshot(fingerprint, stations, lines);
+    }
+
+    public boolean warm(NetworkSnapshot snapshot) {
+        if (!snapshot.fingerprint().equals(fingerprint())) {
+            return false;
+        }
+
+        pathGraphProvider.warm(snapshot.lines().stream()
+                .flatMap(line -> line.sections().stream())
+                .map(section -> new SectionEdge(section.upStationId(), section.downStationId(), section.distance()))
+                .toList());
+
+        Map<Long, StationResponse> stations = snapshot.stations().stream()
+                .collect(Collectors.toMap(StationRecord::id, station -> new StationResponse(station.id(), station.name())));
+        snapshot.lines().forEach(line -> lineCache.putIfAbsent(toLineResponse(line, stations)));
+
+        if (!snapshot.fingerprint().equals(fingerprint())) {
+            lineCache.clear();
+            pathGraphProvider.invalidate();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 채우기 전후의 지문은 각각 한 문장으로 읽어, 읽는 도중 커밋된 변경으로 값이 섞이지 않게 한다.
+     */
+    private Fingerprint fingerprint() {
+        return jdbcTemplate.queryForObject(FINGERPRINT_QUERY,
+                (resultSet, rowNum) -> new Fingerprint(resultSet.getLong(1), resultSet.getLong(2), resultSet.getLong(3), resultSet.getLong(4)));
+    }
+
+    private static LineRecord toLineRecord(Line line) {
+        List<SectionRecord> sections = line.getSections().asList().stream()
+                .map(section -> new SectionRecord(section.getUpStationId(), section.getDownStationId(), section.getDistance()))
+                .toList();
+        long version = line.getVersion() == null ? 0 : line.getVersion();
+        return new LineRecord(line.getId(), version, line.getName(), line.getColor(), sections);
+    }
+
+    private static LineResponse toLineResponse(LineRecord line, Map<Long, StationResponse> stations) {
+        List<StationResponse> lineStations = new ArrayList<>(line.sections().size() + 1);
+        for (SectionRecord section : line.sections()) {
+            if (lineStations.isEmpty()) {
+                lineStations.add(stations.get(section.upStationId()));
+            }
+            lineStations.add(stations.get(section.downStationId()));
+        }
+        return LineResponse.builder()
+                .id(line.id())
+                .name(line.name())
+                .color(line.color())
+                .stations(lineStations)
+                .version(line.version())
+                .build();
+    }
+}
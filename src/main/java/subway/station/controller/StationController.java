@@ -1,8 +1,11 @@
 package subway.station.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import subway.station.dto.StationRequest;
 import subway.station.dto.StationResponse;
 import subway.station.service.StationService;
@@ -13,7 +16,14 @@ import java.util.List;
 @RestController
 @RequiredArgsConstructor
 public class StationController {
+    private static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int STREAM_CHUNK_SIZE = 500;
+    private static final byte LINE_SEPARATOR = '\n';
+
     private final StationService stationService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping("/stations")
     public ResponseEntity<StationResponse> createStation(@RequestBody StationRequest stationRequest) {
@@ -22,8 +32,40 @@ public class StationController {
     }
 
     @GetMapping(value = "/stations")
-    public ResponseEntity<List<StationResponse>> findStations() {
-        return ResponseEntity.ok().body(stationService.findAllStations());
+    public ResponseEntity<List<StationResponse>> findStations(@RequestParam(required = false) Long afterId,
+                                                              @RequestParam(required = false) Integer limit) {
+        if (afterId == null && limit == null) {
+            return ResponseEntity.ok().body(stationService.findAllStations());
+        }
+
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        return ResponseEntity.ok().body(stationService.findStations(afterId == null ? 0L : afterId, pageSize));
+    }
+
+    /**
+     * 역 ID 순서로 일정 개수씩 끊어 읽고, 읽은 묶음을 쓴 뒤 다음 묶음을 읽는다.
+     * 묶음마다 트랜잭션이 끝나므로 느린 클라이언트에 쓰는 동안에는 커넥션을 붙잡지 않는다.
+     */
+    @GetMapping(value = "/stations", produces = APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamStations() {
+        StreamingResponseBody body = outputStream -> {
+            long afterId = 0L;
+            List<StationResponse> chunk;
+            do {
+                chunk = stationService.findStations(afterId, STREAM_CHUNK_SIZE);
+                for (StationResponse station : chunk) {
+                    outputStream.write(objectMapper.writeValueAsBytes(station));
+                    outputStream.write(LINE_SEPARATOR);
+                }
+                outputStream.flush();
+                if (!chunk.isEmpty()) {
+                    afterId = chunk.get(chunk.size() - 1).id();
+                }
+            } while (chunk.size() == STREAM_CHUNK_SIZE);
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE))
+                .body(body);
     }
 
     @DeleteMapping("/stations/{id}")
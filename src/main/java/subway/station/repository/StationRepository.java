@@ -1,7 +1,11 @@
 package subway.station.repository;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import subway.station.domain.Station;
 
+import java.util.List;
+
 public interface StationRepository extends JpaRepository<Station, Long> {
+    List<Station> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
 }
@@ -0,0 +1,71 @@
+package subway.station.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import subway.common.error.NotFoundException;
+import subway.station.domain.Station;
+import subway.station.repository.StationRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 여러 역 ID를 한 번의 조회로 찾는다. 같은 트랜잭션 안에서 이미 찾은 역은 다시 조회하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StationResolver {
+    private final StationRepository stationRepository;
+
+    public Map<Long, Station> resolveAll(Collection<Long> ids) {
+        Map<Long, Station> memo = getMemo();
+        List<Long> unresolvedIds = ids.stream()
+                .filter(id -> !memo.containsKey(id))
+                .distinct()
+                .toList();
+        if (!unresolvedIds.isEmpty()) {
+            stationRepository.findAllById(unresolvedIds).forEach(station -> memo.put(station.getId(), station));
+        }
+
+        Map<Long, Station> stations = new HashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : ids) {
+            Station station = memo.get(id);
+            if (station == null) {
+                missingIds.add(id);
+            } else {
+                stations.put(id, station);
+            }
+        }
+
+        if (!missingIds.isEmpty()) {
+            throw new NotFoundException(Map.of("stationIds", missingIds));
+        }
+        return stations;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Station> getMemo() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new HashMap<>();
+        }
+
+        Map<Long, Station> memo = (Map<Long, Station>) TransactionSynchronizationManager.getResource(this);
+        if (memo == null) {
+            memo = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, memo);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(StationResolver.this);
+                }
+            });
+        }
+        return memo;
+    }
+}
@@ -1,8 +1,12 @@
 package subway.station.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import subway.common.metrics.ServiceMetrics;
+import subway.common.revision.NetworkRevision;
 import subway.station.domain.Station;
 import subway.station.dto.StationRequest;
 import subway.station.dto.StationResponse;
@@ -14,14 +18,17 @@ import java.util.stream.Collectors;
 import static subway.station.mapper.StationMapper.STATION_MAPPER;
 
 @Service
+@Timed(ServiceMetrics.SERVICE_TIMER)
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
 public class StationService {
     private final StationRepository stationRepository;
+    private final NetworkRevision networkRevision;
 
     @Transactional
     public StationResponse saveStation(StationRequest stationRequest) {
         Station station = stationRepository.save(new Station(stationRequest.getName()));
+        networkRevision.increment();
         return STATION_MAPPER.toStationResponse(station);
     }
 
@@ -31,8 +38,15 @@ public class StationService {
                 .collect(Collectors.toList());
     }
 
+    public List<StationResponse> findStations(Long afterId, int limit) {
+        return stationRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.ofSize(limit)).stream()
+                .map(STATION_MAPPER::toStationResponse)
+                .collect(Collectors.toList());
+    }
+
     @Transactional
     public void deleteStation(Long id) {
         stationRepository.deleteById(id);
+        networkRevision.increment();
     }
 }
@@ -0,0 +1,30 @@
+-- 시퀀스 증가폭은 Flyway 플레이스홀더로 subway.id.allocation_size 값을 받는다 (PooledSequenceGenerator)
+create sequence station_seq start with 1 increment by ${id_allocation_size};
+create sequence line_seq start with 1 increment by ${id_allocation_size};
+create sequence section_seq start with 1 increment by ${id_allocation_size};
+
+create table station
+(
+    id   bigint      not null,
+    name varchar(20) not null,
+    primary key (id)
+);
+
+create table line
+(
+    id      bigint      not null,
+    name    varchar(20) not null,
+    color   varchar(20) not null,
+    version bigint,
+    primary key (id)
+);
+
+create table section
+(
+    id              bigint  not null,
+    line_id         bigint,
+    up_station_id   bigint,
+    down_station_id bigint,
+    distance        integer not null,
+    primary key (id)
+);
@@ -0,0 +1,14 @@
+-- 역/노선 이름은 중복될 수 없고, 이름 접두사 검색도 유니크 인덱스를 탄다
+alter table station add constraint uk_station_name unique (name);
+alter table line add constraint uk_line_name unique (name);
+create index idx_line_color on line (color);
+
+-- 한 노선에 같은 하행역이 두 번 등록될 수 없다. 선두 컬럼이 line_id 이므로 노선별 구간 조회도 이 인덱스를 쓴다
+alter table section add constraint uk_section_line_down_station unique (line_id, down_station_id);
+create index idx_section_up_station on section (up_station_id);
+create index idx_section_down_station on section (down_station_id);
+
+-- 외래 키는 위 인덱스를 재사용하도록 인덱스 다음에 추가한다
+alter table section add constraint fk_section_line foreign key (line_id) references line (id);
+alter table section add constraint fk_section_up_station foreign key (up_station_id) references station (id);
+alter table section add constraint fk_section_down_station foreign key (down_station_id) references station (id);
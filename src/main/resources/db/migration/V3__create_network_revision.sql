@@ -0,0 +1,3 @@
+-- 역/노선/구간 변경이 커밋될 때마다 값을 하나씩 받아 가는 시퀀스 (NetworkRevision).
+-- 시퀀스는 트랜잭션 잠금을 잡지 않으므로 서로 다른 노선의 쓰기가 이 카운터에서 줄 서지 않는다.
+create sequence network_revision_seq start with 1 increment by 1;
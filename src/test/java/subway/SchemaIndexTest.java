@@ -0,0 +1,62 @@
+package subway;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("자주 쓰는 조회의 실행 계획은 인덱스를 사용한다")
+@SpringBootTest
+class SchemaIndexTest {
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DisplayName("노선별 구간 조회")
+    @Test
+    void findSectionsByLine() {
+        assertThat(explain("select id, up_station_id, down_station_id, distance from section where line_id = 1 order by id"))
+                .containsIgnoringCase("uk_section_line_down_station");
+    }
+
+    @DisplayName("상행역을 참조하는 구간 조회")
+    @Test
+    void findSectionsByUpStation() {
+        assertThat(explain("select id from section where up_station_id = 1"))
+                .containsIgnoringCase("idx_section_up_station");
+    }
+
+    @DisplayName("하행역을 참조하는 구간 조회")
+    @Test
+    void findSectionsByDownStation() {
+        assertThat(explain("select id from section where down_station_id = 1"))
+                .containsIgnoringCase("idx_section_down_station");
+    }
+
+    @DisplayName("이름 접두사로 노선 조회")
+    @Test
+    void findLinesByNamePrefix() {
+        assertThat(explain("select id, name, color from line where name like '신%'"))
+                .containsIgnoringCase("uk_line_name");
+    }
+
+    @DisplayName("색상으로 노선 조회")
+    @Test
+    void findLinesByColor() {
+        assertThat(explain("select id, name, color from line where color = 'bg-red-600'"))
+                .containsIgnoringCase("idx_line_color");
+    }
+
+    @DisplayName("이름으로 역 조회")
+    @Test
+    void findStationByName() {
+        assertThat(explain("select id from station where name = '강남역'"))
+                .containsIgnoringCase("uk_station_name");
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("explain " + sql, String.class);
+    }
+}
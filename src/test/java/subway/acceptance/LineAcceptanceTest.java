@@ -1,11 +1,18 @@
 package subway.acceptance;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import io.restassured.response.ExtractableResponse;
 import io.restassured.response.Response;
 import org.apache.http.HttpStatus;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import subway.line.cache.LineCache;
+import subway.line.cache.LineVersions;
 import subway.line.dto.CreateLineRequest;
 import subway.line.dto.LineResponse;
 import subway.line.dto.ModifyLineRequest;
@@ -14,13 +21,16 @@ import subway.station.dto.StationRequest;
 import subway.station.dto.StationResponse;
 import subway.util.AcceptanceTestBase;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static subway.util.RestAssuredWrapper.*;
 
 class LineAcceptanceTest extends AcceptanceTestBase {
     private static final String TEST_COLOR = "bg-test-600";
+    private static final String SMILE_MEDIA_TYPE = "application/x-jackson-smile";
     private static final String 신분당선 = "신분당선";
     private static final String 인천지하철_1호선 = "인천지하철 1호선";
     private static Long 신분당선_상행종점역_ID;
@@ -28,6 +38,12 @@ class LineAcceptanceTest extends AcceptanceTestBase {
     private static Long 인천지하철_1호선_상행종점역_ID;
     private static Long 인천지하철_1호선_하행종점역_ID;
 
+    @Autowired
+    private LineCache lineCache;
+
+    @Autowired
+    private LineVersions lineVersions;
+
     @BeforeEach
     void init() {
         // 신분당선 역 생성
@@ -73,6 +89,41 @@ class LineAcceptanceTest extends AcceptanceTestBase {
         assertThat(getStationIds(getResponse)).containsExactly(신분당선_상행종점역_ID, 신분당선_하행종점역_ID, 인천지하철_1호선_상행종점역_ID, 인천지하철_1호선_하행종점역_ID);
     }
 
+    @DisplayName("지하철 노선 목록을 페이지 단위로 조회")
+    @Test
+    void getLinesByPage() {
+        // Given: 지하철 노선 3개를 생성하고
+        Long firstId = createLine("1호선", 신분당선_상행종점역_ID, 신분당선_하행종점역_ID).as(LineResponse.class).getId();
+        createLine("2호선", 신분당선_상행종점역_ID, 신분당선_하행종점역_ID);
+        createLine("3호선", 신분당선_상행종점역_ID, 신분당선_하행종점역_ID);
+
+        // When: 첫 번째 노선 다음부터 1개를 조회하면
+        ExtractableResponse<Response> getResponse = get("/lines", Map.of("afterId", firstId.toString(), "limit", "1"));
+
+        // Then: 두 번째 노선만 역 목록과 함께 응답받는다
+        assertThat(getLineNames(getResponse)).containsExactly("2호선");
+        assertThat(getStationIds(getResponse)).containsExactly(신분당선_상행종점역_ID, 신분당선_하행종점역_ID);
+    }
+
+    @DisplayName("지하철 노선 목록을 이름 접두사와 색상으로 걸러 역 목록 없이 조회")
+    @Test
+    void getLinesByFilter() {
+        // Given: 이름과 색상이 다른 지하철 노선들을 생성하고
+        createLine(신분당선, 신분당선_상행종점역_ID, 신분당선_하행종점역_ID);
+        createLine("신림선", "bg-blue-600", 신분당선_상행종점역_ID, 신분당선_하행종점역_ID);
+        createLine(인천지하철_1호선, 인천지하철_1호선_상행종점역_ID, 인천지하철_1호선_하행종점역_ID);
+
+        // When: 이름 접두사와 색상을 지정하고 역 목록을 제외해 조회하면
+        ExtractableResponse<Response> getResponse = get("/lines", Map.of(
+                "namePrefix", "신",
+                "color", TEST_COLOR,
+                "fields", "id,name,color"));
+
+        // Then: 조건에 맞는 노선만 역 목록 없이 응답받는다
+        assertThat(getLineNames(getResponse)).containsExactly(신분당선);
+        assertThat(getResponse.jsonPath().getList("stations")).containsOnlyNulls();
+    }
+
     @DisplayName("지하철 노선 조회")
     @Test
     void getLine() {
@@ -104,6 +155,116 @@ class LineAcceptanceTest extends AcceptanceTestBase {
         assertThat(lineName).isEqualTo(인천지하철_1호선);
     }
 
+    @DisplayName("지하철 노선 수정 후 조회")
+    @Test
+    void getLineAfterModify() {
+        // Given: 지하철 노선을 생성하고 조회한 뒤
+        ExtractableResponse<Response> postResponse = createLine(신분당선, 신분당선_상행종점역_ID, 신분당선_하행종점역_ID);
+        Long id = postResponse.as(LineResponse.class).getId();
+        get(String.format("lines/%s", id));
+
+        // When: 지하철 노선을 수정하고 다시 조회하면
+        put(String.format("lines/%s", id), new ModifyLineRequest(인천지하철_1호선, TEST_COLOR));
+        ExtractableResponse<Response> getResponse = get(String.format("lines/%s", id));
+
+        // Then: 수정된 노선 정보를 응답받는다
+        String lineName = getResponse.jsonPath().get("name");
+        assertThat(lineName).isEqualTo(인천지하철_1호선);
+    }
+
+    @DisplayName("변경되지 않은 지하철 노선 재조회")
+    @Test
+    void getLineNotModified() {
+        // Given: 지하철 노선을 생성하고 조회한 뒤
+        Long id = createLine(신분당선, 신분당선_상행종점역_ID, 신분당선_하행종점역_ID).as(LineResponse.class).getId();
+        String eTag = get(String.format("/lines/%s", id)).header(HttpHeaders.ETAG);
+
+        // When: 받은 ETag로 다시 조회하면
+        ExtractableResponse<Response> getResponse = get(String.format("/lines/%s", id), Map.of(), Map.of(HttpHeaders.IF_NONE_MATCH, eTag));
+
+        // Then: 본문 없이 304 응답을 받는다
+        assertThat(getResponse.statusCode()).isEqualTo(HttpStatus.SC_NOT_MODIFIED);
+        assertThat(getResponse.header(HttpHeaders.ETAG)).isEqualTo(eTag);
+    }
+
+    @DisplayName("캐시와 메모리의 버전이 비어도 저장된 버전이 같으면 이전 ETag로 304 응답을 받는다")
+    @Test
+    void getLineNotModifiedAfterCacheCleared() {
+        // Given: 지하철 노선을 조회해 ETag를 받고
+        Long id = createLine(신분당선, 신분당선_상행종점역_ID, 신분당선_하행종점역_ID).as(LineResponse.class).getId();
+        String linesETag = get("/lines").header(HttpHeaders.ETAG);
+        String lineETag = get(String.format("/lines/%s", id)).header(HttpHeaders.ETAG);
+
+        // When: 다른 인스턴스처럼 캐시가 빈 상태에서 받은 ETag로 다시 조회하면
+        lineCache.clear();
+        lineVersions.clear();
+        ExtractableResponse<Response> linesResponse = get("/lines", Map.of(), Map.of(HttpHeaders.IF_NONE_MATCH, linesETag));
+        ExtractableResponse<Response> lineResponse = get(String.format("/lines/%s", id), Map.of(), Map.of(HttpHeaders.IF_NONE_MATCH, lineETag));
+
+        // Then: 저장된 버전이 그대로이므로 304 응답을 받는다
+        assertThat(linesResponse.statusCode()).isEqualTo(HttpStatus.SC_NOT_MODIFIED);
+        assertThat(lineResponse.statusCode()).isEqualTo(HttpStatus.SC_NOT_MODIFIED);
+    }
+
+    @DisplayName("지하철 노선 수정 후 이전 ETag로 재조회")
+    @Test
+    void getLineWithStaleETag() {
+        // Given: 지하철 노선 목록과 노선을 조회한 뒤
+        Long id = createLine(신분당선, 신분당선_상행종점역_ID, 신분당선_하행종점역_ID).as(LineResponse.class).getId();
+        String linesETag = get("/lines").header(HttpHeaders.ETAG);
+        String lineETag = get(String.format("/lines/%s", id)).header(HttpHeaders.ETAG);
+
+        // When: 지하철 노선을 수정하고 이전 ETag로 다시 조회하면
+        put(String.format("/lines/%s", id), new ModifyLineRequest(인천지하철_1호선, TEST_COLOR));
+        ExtractableResponse<Response> linesResponse = get("/lines", Map.of(), Map.of(HttpHeaders.IF_NONE_MATCH, linesETag));
+        ExtractableResponse<Response> lineResponse = get(String.format("/lines/%s", id), Map.of(), Map.of(HttpHeaders.IF_NONE_MATCH, lineETag));
+
+        // Then: 새로운 ETag와 함께 수정된 노선 정보를 응답받는다
+        assertThat(linesResponse.statusCode()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(linesResponse.header(HttpHeaders.ETAG)).isNotEqualTo(linesETag);
+        assertThat(getLineNames(linesResponse)).containsExactly(인천지하철_1호선);
+        assertThat(lineResponse.statusCode()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(lineResponse.header(HttpHeaders.ETAG)).isNotEqualTo(lineETag);
+        assertThat(lineResponse.jsonPath().getString("name")).isEqualTo(인천지하철_1호선);
+    }
+
+    @DisplayName("지하철 노선 목록을 Smile 형식으로 조회")
+    @Test
+    void getLinesInSmile() throws IOException {
+        // Given: 지하철 노선을 생성하고
+        createLine(신분당선, 신분당선_상행종점역_ID, 신분당선_하행종점역_ID);
+
+        // When: Smile 형식을 요청해 노선 목록을 조회하면
+        ExtractableResponse<Response> getResponse = get("/lines", Map.of(), Map.of(HttpHeaders.ACCEPT, SMILE_MEDIA_TYPE));
+
+        // Then: Smile 로 인코딩된 노선 목록을 응답받는다
+        assertThat(getResponse.contentType()).startsWith(SMILE_MEDIA_TYPE);
+        JsonNode lines = new ObjectMapper(new SmileFactory()).readTree(getResponse.asByteArray());
+        assertThat(lines.get(0).get("name").asText()).isEqualTo(신분당선);
+        assertThat(lines.get(0).get("stations")).hasSize(2);
+    }
+
+    @DisplayName("JSON 과 Smile 응답은 서로 다른 ETag 를 갖고 Accept 에 따라 달라짐을 알린다")
+    @Test
+    void eTagPerRepresentation() {
+        // Given: 지하철 노선을 생성하고 JSON 과 Smile 로 각각 조회한 뒤
+        Long id = createLine(신분당선, 신분당선_상행종점역_ID, 신분당선_하행종점역_ID).as(LineResponse.class).getId();
+        String path = String.format("/lines/%s", id);
+        ExtractableResponse<Response> jsonResponse = get(path);
+        ExtractableResponse<Response> smileResponse = get(path, Map.of(), Map.of(HttpHeaders.ACCEPT, SMILE_MEDIA_TYPE));
+
+        // When: JSON 응답의 ETag 로 Smile 을 다시 요청하면
+        ExtractableResponse<Response> crossResponse = get(path, Map.of(),
+                Map.of(HttpHeaders.ACCEPT, SMILE_MEDIA_TYPE, HttpHeaders.IF_NONE_MATCH, jsonResponse.header(HttpHeaders.ETAG)));
+
+        // Then: 표현마다 ETag 가 다르고, 다른 표현의 ETag 로는 304 를 받지 않는다
+        assertThat(jsonResponse.header(HttpHeaders.VARY)).containsIgnoringCase(HttpHeaders.ACCEPT);
+        assertThat(smileResponse.header(HttpHeaders.VARY)).containsIgnoringCase(HttpHeaders.ACCEPT);
+        assertThat(smileResponse.header(HttpHeaders.ETAG)).isNotEqualTo(jsonResponse.header(HttpHeaders.ETAG));
+        assertThat(crossResponse.statusCode()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(crossResponse.contentType()).startsWith(SMILE_MEDIA_TYPE);
+    }
+
     @DisplayName("지하철 노선 삭제")
     @Test
     void deleteLine() {
@@ -126,9 +287,13 @@ class LineAcceptanceTest extends AcceptanceTestBase {
     }
 
     private ExtractableResponse<Response> createLine(String lineName, Long upStationId, Long downStationId) {
+        return createLine(lineName, TEST_COLOR, upStationId, downStationId);
+    }
+
+    private ExtractableResponse<Response> createLine(String lineName, String color, Long upStationId, Long downStationId) {
         CreateLineRequest line = CreateLineRequest.builder()
                 .name(lineName)
-                .color(TEST_COLOR)
+                .color(color)
                 .distance(10)
                 .upStationId(upStationId)
                 .downStationId(downStationId)
@@ -0,0 +1,74 @@
+package subway.acceptance;
+
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.apache.http.HttpStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import subway.line.dto.CreateLineRequest;
+import subway.line.dto.LineResponse;
+import subway.section.dto.AddSectionRequest;
+import subway.station.dto.StationRequest;
+import subway.station.dto.StationResponse;
+import subway.util.AcceptanceTestBase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static subway.util.RestAssuredWrapper.get;
+import static subway.util.RestAssuredWrapper.post;
+
+@DisplayName("운영 지표")
+class MetricsAcceptanceTest extends AcceptanceTestBase {
+    private static final String TEST_COLOR = "bg-test-600";
+
+    @DisplayName("서비스 메서드와 리포지토리 호출의 횟수와 지연 시간을 Prometheus 형식으로 노출한다")
+    @Test
+    void serviceAndRepositoryMetrics() {
+        // Given: 노선 목록을 조회하고
+        get("/lines");
+
+        // When: Prometheus 지표를 조회하면
+        ExtractableResponse<Response> response = get("/actuator/prometheus");
+
+        // Then: 서비스 메서드와 리포지토리 메서드별 지표를 찾을 수 있다
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(response.asString())
+                .containsPattern("subway_service_seconds_count\\{.*method=\"findAllLines\".*}")
+                .containsPattern("spring_data_repository_invocations_seconds_count\\{.*method=\"findAllWithStations\".*}");
+    }
+
+    @DisplayName("구간 검증 실패를 규칙별로 세고, 찾을 수 없는 대상은 검증 실패로 세지 않는다")
+    @Test
+    void validationFailureMetrics() {
+        // Given: 노선을 생성하고
+        Long upStationId = createStation("신사");
+        Long downStationId = createStation("광교");
+        Long lineId = createLine(upStationId, downStationId);
+
+        // When: 길이가 0인 구간을 등록하면
+        Long newStationId = createStation("신규역");
+        post(String.format("/lines/%d/sections", lineId), new AddSectionRequest(downStationId, newStationId, 0));
+
+        // When: 없는 노선을 조회하면
+        get(String.format("/lines/%d", lineId + 1_000));
+
+        // Then: 검증 실패 지표에는 길이 규칙만 기록되고 찾을 수 없음은 기록되지 않는다
+        String metrics = get("/actuator/prometheus").asString();
+        assertThat(metrics).containsPattern("subway_validation_failures_total\\{.*rule=\"SECTION_INVALID_DISTANCE\".*}");
+        assertThat(metrics).doesNotContain("rule=\"NOT_FOUND\"");
+    }
+
+    private Long createStation(String stationName) {
+        return post("/stations", StationRequest.from(stationName)).as(StationResponse.class).id();
+    }
+
+    private Long createLine(Long upStationId, Long downStationId) {
+        CreateLineRequest line = CreateLineRequest.builder()
+                .name("신분당선")
+                .color(TEST_COLOR)
+                .distance(10)
+                .upStationId(upStationId)
+                .downStationId(downStationId)
+                .build();
+        return post("/lines", line).as(LineResponse.class).getId();
+    }
+}
@@ -0,0 +1,112 @@
+package subway.acceptance;
+
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import subway.line.dto.CreateLineRequest;
+import subway.line.dto.LineResponse;
+import subway.section.dto.AddSectionRequest;
+import subway.station.dto.StationRequest;
+import subway.station.dto.StationResponse;
+import subway.util.AcceptanceTestBase;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static subway.util.RestAssuredWrapper.*;
+
+@DisplayName("open-in-view 없이 조회")
+class OpenInViewAcceptanceTest extends AcceptanceTestBase {
+    private static final String TEST_COLOR = "bg-test-600";
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private Long 교대역_ID;
+    private Long 강남역_ID;
+    private Long 양재역_ID;
+    private Long 이호선_ID;
+
+    @BeforeEach
+    void init() {
+        교대역_ID = createStation("교대역");
+        강남역_ID = createStation("강남역");
+        양재역_ID = createStation("양재역");
+
+        CreateLineRequest line = CreateLineRequest.builder()
+                .name("2호선")
+                .color(TEST_COLOR)
+                .distance(10)
+                .upStationId(교대역_ID)
+                .downStationId(강남역_ID)
+                .build();
+        이호선_ID = post("/lines", line).as(LineResponse.class).getId();
+        post("/lines/" + 이호선_ID + "/sections", new AddSectionRequest(강남역_ID, 양재역_ID, 5));
+    }
+
+    @Test
+    @DisplayName("요청 동안 영속성 컨텍스트를 열어 두는 인터셉터가 등록되지 않는다")
+    void openInViewDisabled() {
+        // Then: open-in-view 인터셉터가 없다
+        assertThat(applicationContext.getBeansOfType(OpenEntityManagerInViewInterceptor.class)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("노선의 지연 로딩 구간과 역을 응답에 담는다")
+    void findLine() {
+        // When: 노선을 조회하면
+        ExtractableResponse<Response> response = get("/lines/" + 이호선_ID);
+
+        // Then: 구간을 따라 정렬된 역 목록을 응답받는다
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("stations.name", String.class)).containsExactly("교대역", "강남역", "양재역");
+    }
+
+    @Test
+    @DisplayName("노선 목록과 구간 목록을 응답에 담는다")
+    void findLinesAndSections() {
+        // When: 노선 목록과 구간 목록을 조회하면
+        ExtractableResponse<Response> linesResponse = get("/lines");
+        ExtractableResponse<Response> sectionsResponse = get("/lines/" + 이호선_ID + "/sections");
+
+        // Then: 지연 로딩된 값까지 응답받는다
+        assertThat(linesResponse.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(linesResponse.jsonPath().getList("name", String.class)).containsExactly("2호선");
+        assertThat(linesResponse.jsonPath().getList("stations[0].name", String.class)).containsExactly("교대역", "강남역", "양재역");
+        assertThat(sectionsResponse.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(sectionsResponse.jsonPath().getList("downStationId", Long.class)).containsExactly(강남역_ID, 양재역_ID);
+    }
+
+    @Test
+    @DisplayName("경로를 조회한다")
+    void findPath() {
+        // When: 경로를 조회하면
+        ExtractableResponse<Response> response = get("/paths", Map.of("source", 교대역_ID.toString(), "target", 양재역_ID.toString()));
+
+        // Then: 경로의 역 목록을 응답받는다
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.jsonPath().getList("stations.id", Long.class)).containsExactly(교대역_ID, 강남역_ID, 양재역_ID);
+    }
+
+    @Test
+    @DisplayName("지하철역 목록을 NDJSON 스트림으로 응답한다")
+    void streamStations() {
+        // When: NDJSON 형식으로 지하철역 목록을 조회하면
+        ExtractableResponse<Response> response = get("/stations", Map.of(), Map.of("Accept", "application/x-ndjson"));
+
+        // Then: 모든 역을 한 줄씩 응답받는다
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(Arrays.stream(response.asString().split("\n")).filter(line -> !line.isBlank())).hasSize(3);
+    }
+
+    private Long createStation(String stationName) {
+        return post("/stations", StationRequest.from(stationName)).as(StationResponse.class).id();
+    }
+}
@@ -0,0 +1,131 @@
+package subway.acceptance;
+
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.apache.http.HttpStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import subway.line.dto.CreateLineRequest;
+import subway.line.dto.LineResponse;
+import subway.section.dto.AddSectionRequest;
+import subway.station.dto.StationRequest;
+import subway.station.dto.StationResponse;
+import subway.util.AcceptanceTestBase;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static subway.util.RestAssuredWrapper.*;
+
+@DisplayName("지하철 경로 조회")
+class PathAcceptanceTest extends AcceptanceTestBase {
+    private static final String TEST_COLOR = "bg-test-600";
+    private static final String SECTION_PATH = "/lines/%d/sections";
+    private static Long 교대역_ID;
+    private static Long 강남역_ID;
+    private static Long 양재역_ID;
+    private static Long 남부터미널역_ID;
+    private static Long 이호선_ID;
+
+    /**
+     * 교대역 --- 2호선(10) --- 강남역
+     * |                        |
+     * 3호선(2)              신분당선(10)
+     * |                        |
+     * 남부터미널역 --- 3호선(3) --- 양재역
+     */
+    @BeforeEach
+    void init() {
+        교대역_ID = createStation("교대역");
+        강남역_ID = createStation("강남역");
+        양재역_ID = createStation("양재역");
+        남부터미널역_ID = createStation("남부터미널역");
+
+        이호선_ID = createLine("2호선", 교대역_ID, 강남역_ID, 10);
+        createLine("신분당선", 강남역_ID, 양재역_ID, 10);
+        Long 삼호선_ID = createLine("3호선", 교대역_ID, 남부터미널역_ID, 2);
+        post(String.format(SECTION_PATH, 삼호선_ID), new AddSectionRequest(남부터미널역_ID, 양재역_ID, 3));
+    }
+
+    @Test
+    @DisplayName("최단 경로 조회 성공")
+    void findPath() {
+        // When: 출발역과 도착역으로 경로를 조회하면
+        ExtractableResponse<Response> response = findPath(교대역_ID, 양재역_ID);
+
+        // Then: 최단 경로의 역 목록과 거리를 응답받는다
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(getStationIds(response)).containsExactly(교대역_ID, 남부터미널역_ID, 양재역_ID);
+        assertThat(response.jsonPath().getInt("distance")).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("구간이 추가되면 새로운 구간을 반영한 경로를 조회한다")
+    void findPathAfterAddSection() {
+        // Given: 기존 최단 경로보다 짧은 구간을 추가하고
+        Long 역삼역_ID = createStation("역삼역");
+        findPath(교대역_ID, 양재역_ID);
+        post(String.format(SECTION_PATH, 이호선_ID), new AddSectionRequest(강남역_ID, 역삼역_ID, 1));
+
+        // When: 새로운 역까지의 경로를 조회하면
+        ExtractableResponse<Response> response = findPath(교대역_ID, 역삼역_ID);
+
+        // Then: 추가한 구간을 포함한 경로를 응답받는다
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(getStationIds(response)).containsExactly(교대역_ID, 강남역_ID, 역삼역_ID);
+        assertThat(response.jsonPath().getInt("distance")).isEqualTo(11);
+    }
+
+    @Nested
+    @DisplayName("최단 경로 조회 실패")
+    class FindPathWithInvalidRequest {
+        @Test
+        @DisplayName("출발역과 도착역이 같을 때")
+        void findPathWithSameStations() {
+            // When: 출발역과 도착역이 같은 경로를 조회하면
+            ExtractableResponse<Response> response = findPath(교대역_ID, 교대역_ID);
+
+            // Then: 경로 조회에 실패한다
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.SC_BAD_REQUEST);
+        }
+
+        @Test
+        @DisplayName("출발역과 도착역이 연결되어 있지 않을 때")
+        void findPathWithDisconnectedStations() {
+            // Given: 어느 노선에도 포함되지 않은 역을 생성하고
+            Long 고립된역_ID = createStation("고립된역");
+
+            // When: 해당 역까지의 경로를 조회하면
+            ExtractableResponse<Response> response = findPath(교대역_ID, 고립된역_ID);
+
+            // Then: 경로 조회에 실패한다
+            assertThat(response.statusCode()).isEqualTo(HttpStatus.SC_BAD_REQUEST);
+        }
+    }
+
+    private ExtractableResponse<Response> findPath(Long source, Long target) {
+        return get("/paths", Map.of("source", source.toString(), "target", target.toString()));
+    }
+
+    private Long createStation(String stationName) {
+        return post("/stations", StationRequest.from(stationName)).as(StationResponse.class).id();
+    }
+
+    private Long createLine(String lineName, Long upStationId, Long downStationId, int distance) {
+        CreateLineRequest line = CreateLineRequest.builder()
+                .name(lineName)
+                .color(TEST_COLOR)
+                .distance(distance)
+                .upStationId(upStationId)
+                .downStationId(downStationId)
+                .build();
+        return post("/lines", line).as(LineResponse.class).getId();
+    }
+
+    private static List<Long> getStationIds(ExtractableResponse<Response> response) {
+        return response.jsonPath().getList("stations.id", Long.class);
+    }
+}
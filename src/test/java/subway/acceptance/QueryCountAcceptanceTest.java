@@ -0,0 +1,231 @@
+package subway.acceptance;
+
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.apache.http.HttpStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import subway.line.dto.CreateLineRequest;
+import subway.line.dto.LineResponse;
+import subway.line.dto.ModifyLineRequest;
+import subway.section.dto.AddSectionRequest;
+import subway.section.dto.SectionResponse;
+import subway.station.dto.StationRequest;
+import subway.station.dto.StationResponse;
+import subway.util.AcceptanceTestBase;
+import subway.util.QueryCounter;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static subway.util.RestAssuredWrapper.delete;
+import static subway.util.RestAssuredWrapper.get;
+import static subway.util.RestAssuredWrapper.post;
+import static subway.util.RestAssuredWrapper.put;
+
+@DisplayName("엔드포인트별 쿼리 수")
+class QueryCountAcceptanceTest extends AcceptanceTestBase {
+    private static final String TEST_COLOR = "bg-test-600";
+    private static final int LINE_COUNT = 3;
+    private static final int SECTION_COUNT_PER_LINE = 4;
+    // 조회 1 + 역 조회 1 + 구간 저장/삭제 1 + 노선 버전 갱신 2 + 시퀀스 할당 1 + 노선도 리비전 증가 1
+    private static final int MAX_SECTION_COMMAND_STATEMENT_COUNT = 7;
+    private static Long 첫번째_노선_ID;
+    private static Long 첫번째_노선_상행종점역_ID;
+    private static Long 첫번째_노선_하행종점역_ID;
+
+    @Autowired
+    private QueryCounter queryCounter;
+
+    @BeforeEach
+    void init() {
+        for (int lineIndex = 0; lineIndex < LINE_COUNT; lineIndex++) {
+            Long upStationId = createStation("역" + lineIndex + "-0");
+            Long downStationId = createStation("역" + lineIndex + "-1");
+            Long lineId = createLine("노선" + lineIndex, upStationId, downStationId);
+            if (lineIndex == 0) {
+                첫번째_노선_ID = lineId;
+                첫번째_노선_상행종점역_ID = upStationId;
+            }
+
+            for (int sectionIndex = 2; sectionIndex <= SECTION_COUNT_PER_LINE; sectionIndex++) {
+                Long newStationId = createStation("역" + lineIndex + "-" + sectionIndex);
+                post(String.format("/lines/%d/sections", lineId), new AddSectionRequest(downStationId, newStationId, 5));
+                downStationId = newStationId;
+            }
+            if (lineIndex == 0) {
+                첫번째_노선_하행종점역_ID = downStationId;
+            }
+        }
+        queryCounter.clear();
+    }
+
+    @DisplayName("노선 목록 조회는 노선 수와 관계없이 노선도 리비전과 노선을 각각 한 번의 쿼리로 조회한다")
+    @Test
+    void findLines() {
+        // When: 노선 목록을 조회하면
+        ExtractableResponse<Response> response = get("/lines");
+
+        // Then: ETag용 리비전 조회 한 번과, 모든 노선과 역을 읽는 쿼리 한 번으로 처리한다
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(response.jsonPath().getList("id")).hasSize(LINE_COUNT);
+        assertThat(queryCounter.getStatementCount()).isEqualTo(2);
+    }
+
+    @DisplayName("노선 목록 페이지 조회는 노선도 리비전, 노선 페이지, 역을 각각 한 번의 쿼리로 조회한다")
+    @Test
+    void findLinesByPage() {
+        // When: 노선 목록을 페이지 단위로 조회하면
+        ExtractableResponse<Response> response = get("/lines", Map.of("limit", "2"));
+
+        // Then: 리비전 조회, 노선 페이지 조회, 구간/역 조회 세 번의 쿼리로 처리한다
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(response.jsonPath().getList("id")).hasSize(2);
+        assertThat(queryCounter.getStatementCount()).isEqualTo(3);
+    }
+
+    @DisplayName("역 목록을 제외한 노선 목록 조회는 구간과 역을 로딩하지 않는다")
+    @Test
+    void findLineSummaries() {
+        // When: 역 목록을 제외하고 노선 목록을 조회하면
+        ExtractableResponse<Response> response = get("/lines", Map.of("fields", "id,name"));
+
+        // Then: 리비전 조회 한 번과, 노선만 읽는 쿼리 한 번으로 처리한다
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(response.jsonPath().getList("id")).hasSize(LINE_COUNT);
+        assertThat(queryCounter.getStatementCount()).isEqualTo(2);
+        assertThat(queryCounter.getEntityLoadCount()).isEqualTo(LINE_COUNT);
+    }
+
+    @DisplayName("노선 조회는 버전과 노선을 각각 한 번의 쿼리로 조회한다")
+    @Test
+    void findLine() {
+        // When: 노선을 조회하면
+        ExtractableResponse<Response> response = get(String.format("/lines/%d", 첫번째_노선_ID));
+
+        // Then: ETag용 버전 조회 한 번과, 노선과 역을 함께 읽는 쿼리 한 번으로 처리한다
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(queryCounter.getStatementCount()).isEqualTo(2);
+    }
+
+    @DisplayName("변경되지 않은 노선 재조회는 메모리의 리비전과 버전으로 쿼리 없이 처리된다")
+    @Test
+    void findLinesNotModified() {
+        // Given: 노선 목록과 노선을 한 번씩 조회하고
+        String linesETag = get("/lines").header(HttpHeaders.ETAG);
+        String lineETag = get(String.format("/lines/%d", 첫번째_노선_ID)).header(HttpHeaders.ETAG);
+        queryCounter.clear();
+
+        // When: 받은 ETag로 다시 조회하면
+        ExtractableResponse<Response> linesResponse = get("/lines", Map.of(), Map.of(HttpHeaders.IF_NONE_MATCH, linesETag));
+        ExtractableResponse<Response> lineResponse = get(String.format("/lines/%d", 첫번째_노선_ID), Map.of(), Map.of(HttpHeaders.IF_NONE_MATCH, lineETag));
+
+        // Then: 데이터베이스를 거치지 않고 304 응답을 받는다
+        assertThat(linesResponse.statusCode()).isEqualTo(HttpStatus.SC_NOT_MODIFIED);
+        assertThat(lineResponse.statusCode()).isEqualTo(HttpStatus.SC_NOT_MODIFIED);
+        assertThat(queryCounter.getStatementCount()).isZero();
+        assertThat(queryCounter.getEntityLoadCount()).isZero();
+    }
+
+    @DisplayName("구간 목록 조회는 엔티티를 로딩하지 않고 한 번의 쿼리로 처리된다")
+    @Test
+    void findSections() {
+        // When: 노선의 구간 목록을 조회하면
+        ExtractableResponse<Response> response = get(String.format("/lines/%d/sections", 첫번째_노선_ID));
+
+        // Then: 구간을 순서대로 한 번의 쿼리로 조회한다
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.SC_OK);
+        List<SectionResponse> sections = response.jsonPath().getList(".", SectionResponse.class);
+        assertThat(sections).hasSize(SECTION_COUNT_PER_LINE);
+        for (int index = 1; index < sections.size(); index++) {
+            assertThat(sections.get(index).getUpStationId()).isEqualTo(sections.get(index - 1).getDownStationId());
+        }
+        assertThat(queryCounter.getStatementCount()).isEqualTo(1);
+        assertThat(queryCounter.getEntityLoadCount()).isZero();
+    }
+
+    @DisplayName("역 목록 조회는 한 번의 쿼리로 처리된다")
+    @Test
+    void findStations() {
+        // When: 역 목록을 조회하면
+        ExtractableResponse<Response> response = get("/stations");
+
+        // Then: 한 번의 쿼리로 조회한다
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(queryCounter.getStatementCount()).isEqualTo(1);
+    }
+
+    @DisplayName("경로 조회는 구간 간선과 경로상의 역을 각각 한 번의 쿼리로 조회한다")
+    @Test
+    void findPath() {
+        // When: 경로를 조회하면
+        ExtractableResponse<Response> response = get("/paths", Map.of(
+                "source", 첫번째_노선_상행종점역_ID.toString(),
+                "target", 첫번째_노선_하행종점역_ID.toString()));
+
+        // Then: 간선 조회와 역 조회 두 번의 쿼리로 처리하고, 구간 엔티티는 로딩하지 않는다
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(queryCounter.getStatementCount()).isEqualTo(2);
+        assertThat(queryCounter.getEntityLoadCount()).isEqualTo(SECTION_COUNT_PER_LINE + 1);
+    }
+
+    @DisplayName("노선 수정은 구간과 역을 로딩하지 않는다")
+    @Test
+    void modifyLine() {
+        // When: 노선을 수정하면
+        ExtractableResponse<Response> response = put(String.format("/lines/%d", 첫번째_노선_ID), new ModifyLineRequest("수정된노선", null));
+
+        // Then: 노선 조회, 수정, 커밋 후 노선도 리비전 증가 세 번의 쿼리로 처리한다
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.SC_OK);
+        assertThat(queryCounter.getStatementCount()).isEqualTo(3);
+        assertThat(queryCounter.getEntityLoadCount()).isEqualTo(1);
+    }
+
+    @DisplayName("구간 등록은 기존 구간의 역을 로딩하지 않는다")
+    @Test
+    void addSection() {
+        // Given: 새로운 역을 생성하고
+        Long newStationId = createStation("신규역");
+        queryCounter.clear();
+
+        // When: 구간을 등록하면
+        ExtractableResponse<Response> response = post(String.format("/lines/%d/sections", 첫번째_노선_ID),
+                new AddSectionRequest(첫번째_노선_하행종점역_ID, newStationId, 5));
+
+        // Then: 노선과 구간 조회, 요청한 역 조회, 구간 저장, 노선 버전 갱신, 노선도 리비전 증가만 수행한다
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.SC_CREATED);
+        assertThat(queryCounter.getEntityLoadCount()).isEqualTo(1 + SECTION_COUNT_PER_LINE + 2);
+        assertThat(queryCounter.getStatementCount()).isLessThanOrEqualTo(MAX_SECTION_COMMAND_STATEMENT_COUNT);
+    }
+
+    @DisplayName("구간 삭제는 구간의 역을 로딩하지 않는다")
+    @Test
+    void deleteSection() {
+        // When: 하행 종점역의 구간을 삭제하면
+        ExtractableResponse<Response> response = delete(String.format("/lines/%d/sections?stationId=%d", 첫번째_노선_ID, 첫번째_노선_하행종점역_ID));
+
+        // Then: 노선과 구간 조회, 구간 삭제, 노선 버전 갱신, 노선도 리비전 증가만 수행한다
+        assertThat(response.statusCode()).isEqualTo(HttpStatus.SC_NO_CONTENT);
+        assertThat(queryCounter.getEntityLoadCount()).isEqualTo(1 + SECTION_COUNT_PER_LINE);
+        assertThat(queryCounter.getStatementCount()).isLessThanOrEqualTo(MAX_SECTION_COMMAND_STATEMENT_COUNT);
+    }
+
+    private Long createStation(String stationName) {
+        return post("/stations", StationRequest.from(stationName)).as(StationResponse.class).id();
+    }
+
+    private Long createLine(String lineName, Long upStationId, Long downStationId) {
+        CreateLineRequest line = CreateLineRequest.builder()
+                .name(lineName)
+                .color(TEST_COLOR)
+                .distance(10)
+                .upStationId(upStationId)
+                .downStationId(downStationId)
+                .build();
+        return post("/lines", line).as(LineResponse.class).getId();
+    }
+}
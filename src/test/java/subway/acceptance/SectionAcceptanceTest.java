@@ -8,6 +8,10 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import subway.common.error.ErrorCode;
 import subway.line.dto.CreateLineRequest;
 import subway.line.dto.LineResponse;
 import subway.section.dto.AddSectionRequest;
@@ -16,19 +20,26 @@ import subway.station.dto.StationRequest;
 import subway.station.dto.StationResponse;
 import subway.util.AcceptanceTestBase;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static subway.util.RestAssuredWrapper.*;
 
 class SectionAcceptanceTest extends AcceptanceTestBase {
     private static final String TEST_COLOR = "bg-test-600";
     private static final String BASE_PATH = "/lines/%d/sections";
+    private static final String BATCH_PATH = "/lines/%d/sections/batch";
     private static final String DELETE_PATH = "/lines/%d/sections?stationId=%d";
     private static final Long NON_EXISTENT_SUBWAY_LINE_ID = 100L;
+    private static final Long NON_EXISTENT_STATION_ID = 100L;
     private static final String 신분당선 = "신분당선";
     private static Long 신분당선_ID;
     private static Long 신분당선_상행종점역_ID;
     private static Long 신분당선_하행종점역_ID;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @BeforeEach
     void init() {
         // 신분당선 생성
@@ -59,6 +70,21 @@ class SectionAcceptanceTest extends AcceptanceTestBase {
             assertThat(sectionResponse.getDistance()).isEqualTo(5);
         }
 
+        @Test
+        @DisplayName("구간 등록 후 노선 조회 시 각 역을 상행부터 한 번씩 응답한다")
+        void getLineStationsAfterAddSection() {
+            // Given: 새로운 구간을 등록하고
+            Long 신분당선_신규역_ID = createStation("신규역");
+            post(String.format(BASE_PATH, 신분당선_ID), new AddSectionRequest(신분당선_하행종점역_ID, 신분당선_신규역_ID, 5));
+
+            // When: 노선을 조회하면
+            ExtractableResponse<Response> getResponse = get(String.format("/lines/%d", 신분당선_ID));
+
+            // Then: 중복 없이 상행종점역부터 하행종점역까지의 역 목록을 응답받는다
+            List<Long> stationIds = getResponse.jsonPath().getList("stations.id", Long.class);
+            assertThat(stationIds).containsExactly(신분당선_상행종점역_ID, 신분당선_하행종점역_ID, 신분당선_신규역_ID);
+        }
+
         @Nested
         @DisplayName("새로운 구간 등록 실패")
         class AddSectionWithInvalidRequest {
@@ -72,8 +98,12 @@ class SectionAcceptanceTest extends AcceptanceTestBase {
                 AddSectionRequest invalidSectionRequest = new AddSectionRequest(신분당선_상행종점역_ID, 신분당선_신규역_ID, 5);
                 ExtractableResponse<Response> postResponse = post(String.format(BASE_PATH, 신분당선_ID), invalidSectionRequest);
 
-                // Then: 구간 등록에 실패한다.
+                // Then: 구간 등록에 실패하고, 실패 사유를 문제 상세 형식으로 응답받는다.
                 assertThat(postResponse.statusCode()).isEqualTo(HttpStatus.SC_BAD_REQUEST);
+                assertThat(postResponse.contentType()).startsWith(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+                assertThat(postResponse.jsonPath().getString("code")).isEqualTo(ErrorCode.SECTION_UP_STATION_NOT_TERMINAL.name());
+                assertThat(postResponse.jsonPath().getInt("status")).isEqualTo(HttpStatus.SC_BAD_REQUEST);
+                assertThat(postResponse.jsonPath().getLong("arguments.upStationId")).isEqualTo(신분당선_상행종점역_ID);
             }
 
             @Test
@@ -97,12 +127,129 @@ class SectionAcceptanceTest extends AcceptanceTestBase {
                 AddSectionRequest invalidSectionRequest = new AddSectionRequest(신분당선_하행종점역_ID, 신분당선_신규역_ID, 10);
                 ExtractableResponse<Response> postResponse = post(String.format(BASE_PATH, NON_EXISTENT_SUBWAY_LINE_ID), invalidSectionRequest);
 
+                // Then: 구간 등록에 실패한다.
+                assertThat(postResponse.statusCode()).isEqualTo(HttpStatus.SC_NOT_FOUND);
+            }
+
+            @Test
+            @DisplayName("존재하지 않는 역으로 구간을 등록할 때")
+            void addSectionWithNonExistentStation() {
+                // When: 존재하지 않는 역을 하행역으로 구간을 등록하면
+                AddSectionRequest invalidSectionRequest = new AddSectionRequest(신분당선_하행종점역_ID, NON_EXISTENT_STATION_ID, 10);
+                ExtractableResponse<Response> postResponse = post(String.format(BASE_PATH, 신분당선_ID), invalidSectionRequest);
+
+                // Then: 구간 등록에 실패한다.
+                assertThat(postResponse.statusCode()).isEqualTo(HttpStatus.SC_NOT_FOUND);
+            }
+
+            @Test
+            @DisplayName("상행역 ID 없이 구간을 등록할 때")
+            void addSectionWithoutUpStationId() {
+                // When: 상행역 ID를 빼고 구간을 등록하면
+                AddSectionRequest invalidSectionRequest = new AddSectionRequest(null, 신분당선_상행종점역_ID, 10);
+                ExtractableResponse<Response> postResponse = post(String.format(BASE_PATH, 신분당선_ID), invalidSectionRequest);
+
                 // Then: 구간 등록에 실패한다.
                 assertThat(postResponse.statusCode()).isEqualTo(HttpStatus.SC_BAD_REQUEST);
+                assertThat(postResponse.jsonPath().getString("code")).isEqualTo(ErrorCode.SECTION_STATION_ID_REQUIRED.name());
             }
         }
     }
 
+    @Nested
+    @DisplayName("지하철 구간 일괄 등록")
+    class AddSections {
+        @Test
+        @DisplayName("여러 구간 일괄 등록 성공")
+        void addSections() {
+            // Given: 새로운 지하철역들을 등록하고
+            Long 신분당선_신규역_ID = createStation("신규역");
+            Long 신분당선_신규역2_ID = createStation("신규역2");
+            Long 신분당선_신규역3_ID = createStation("신규역3");
+
+            // When: 하행종점역부터 이어지는 구간 목록을 한 번에 등록하면
+            List<AddSectionRequest> addSectionRequests = List.of(
+                    new AddSectionRequest(신분당선_하행종점역_ID, 신분당선_신규역_ID, 5),
+                    new AddSectionRequest(신분당선_신규역_ID, 신분당선_신규역2_ID, 3),
+                    new AddSectionRequest(신분당선_신규역2_ID, 신분당선_신규역3_ID, 7));
+            ExtractableResponse<Response> postResponse = post(String.format(BATCH_PATH, 신분당선_ID), addSectionRequests);
+            assertThat(postResponse.statusCode()).isEqualTo(HttpStatus.SC_CREATED);
+
+            // Then: 구간 목록 조회 시 등록한 구간들을 순서대로 찾을 수 있다
+            ExtractableResponse<Response> getResponse = get(String.format(BASE_PATH, 신분당선_ID));
+            List<Long> downStationIds = getResponse.jsonPath().getList("downStationId", Long.class);
+            assertThat(downStationIds).containsExactly(신분당선_하행종점역_ID, 신분당선_신규역_ID, 신분당선_신규역2_ID, 신분당선_신규역3_ID);
+        }
+
+        @Test
+        @DisplayName("구간 목록 중 하나라도 잘못되면 아무 구간도 등록되지 않는다")
+        void addSectionsWithBrokenChain() {
+            // Given: 새로운 지하철역들을 등록하고
+            Long 신분당선_신규역_ID = createStation("신규역");
+            Long 신분당선_신규역2_ID = createStation("신규역2");
+
+            // When: 중간에 끊어진 구간 목록을 등록하면
+            List<AddSectionRequest> addSectionRequests = List.of(
+                    new AddSectionRequest(신분당선_하행종점역_ID, 신분당선_신규역_ID, 5),
+                    new AddSectionRequest(신분당선_하행종점역_ID, 신분당선_신규역2_ID, 5));
+            ExtractableResponse<Response> postResponse = post(String.format(BATCH_PATH, 신분당선_ID), addSectionRequests);
+
+            // Then: 구간 등록에 실패하고 기존 구간만 남는다
+            assertThat(postResponse.statusCode()).isEqualTo(HttpStatus.SC_BAD_REQUEST);
+            ExtractableResponse<Response> getResponse = get(String.format(BASE_PATH, 신분당선_ID));
+            assertThat(getResponse.jsonPath().getList(".")).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("역 ID가 빠진 구간이 있으면 아무 구간도 등록되지 않는다")
+        void addSectionsWithMissingStationId() {
+            // Given: 새로운 지하철역을 등록하고
+            Long 신분당선_신규역_ID = createStation("신규역");
+
+            // When: 하행역 ID가 빠진 구간을 포함해 등록하면
+            List<AddSectionRequest> addSectionRequests = List.of(
+                    new AddSectionRequest(신분당선_하행종점역_ID, 신분당선_신규역_ID, 5),
+                    new AddSectionRequest(신분당선_신규역_ID, null, 5));
+            ExtractableResponse<Response> postResponse = post(String.format(BATCH_PATH, 신분당선_ID), addSectionRequests);
+
+            // Then: 잘못된 구간의 순번과 함께 등록에 실패하고 기존 구간만 남는다
+            assertThat(postResponse.statusCode()).isEqualTo(HttpStatus.SC_BAD_REQUEST);
+            assertThat(postResponse.jsonPath().getString("code")).isEqualTo(ErrorCode.SECTION_STATION_ID_REQUIRED.name());
+            assertThat(postResponse.jsonPath().getInt("arguments.index")).isEqualTo(1);
+            ExtractableResponse<Response> getResponse = get(String.format(BASE_PATH, 신분당선_ID));
+            assertThat(getResponse.jsonPath().getList(".")).hasSize(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("저장 순서와 다른 구간 순서")
+    class SectionOrder {
+        @Test
+        @DisplayName("구간의 저장 순서가 바뀌어도 상행역-하행역 연결 순서대로 조회하고 삭제한다")
+        void findAndDeleteSectionsInChainOrder() {
+            // Given: 여러 구간을 등록한 뒤, 첫 번째 구간이 가장 나중에 저장된 것처럼 id를 바꾸고
+            Long 신분당선_신규역_ID = createStation("신규역");
+            Long 신분당선_신규역2_ID = createStation("신규역2");
+            post(String.format(BASE_PATH, 신분당선_ID), new AddSectionRequest(신분당선_하행종점역_ID, 신분당선_신규역_ID, 5));
+            post(String.format(BASE_PATH, 신분당선_ID), new AddSectionRequest(신분당선_신규역_ID, 신분당선_신규역2_ID, 5));
+            jdbcTemplate.update("update section set id = id + 1000 where line_id = ? and up_station_id = ?", 신분당선_ID, 신분당선_상행종점역_ID);
+
+            // When: 노선과 구간 목록을 조회하면
+            ExtractableResponse<Response> lineResponse = get(String.format("/lines/%d", 신분당선_ID));
+            ExtractableResponse<Response> sectionsResponse = get(String.format(BASE_PATH, 신분당선_ID));
+
+            // Then: 상행 종점역부터 연결 순서대로 응답받는다
+            assertThat(lineResponse.jsonPath().getList("stations.id", Long.class))
+                    .containsExactly(신분당선_상행종점역_ID, 신분당선_하행종점역_ID, 신분당선_신규역_ID, 신분당선_신규역2_ID);
+            assertThat(sectionsResponse.jsonPath().getList("upStationId", Long.class))
+                    .containsExactly(신분당선_상행종점역_ID, 신분당선_하행종점역_ID, 신분당선_신규역_ID);
+
+            // Then: 연결 순서상 마지막 구간을 삭제할 수 있다
+            ExtractableResponse<Response> deleteResponse = delete(String.format(DELETE_PATH, 신분당선_ID, 신분당선_신규역2_ID));
+            assertThat(deleteResponse.statusCode()).isEqualTo(HttpStatus.SC_NO_CONTENT);
+        }
+    }
+
     @Nested
     @DisplayName("지하철 구간 삭제")
     class DeleteSection {
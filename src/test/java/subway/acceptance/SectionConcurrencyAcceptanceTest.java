@@ -0,0 +1,176 @@
+package subway.acceptance;
+
+import io.restassured.response.ExtractableResponse;
+import io.restassured.response.Response;
+import org.apache.http.HttpStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import subway.line.dto.CreateLineRequest;
+import subway.line.dto.LineResponse;
+import subway.line.service.LineService;
+import subway.section.dto.AddSectionRequest;
+import subway.station.dto.StationRequest;
+import subway.station.dto.StationResponse;
+import subway.util.AcceptanceTestBase;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static subway.util.RestAssuredWrapper.get;
+import static subway.util.RestAssuredWrapper.post;
+
+@DisplayName("지하철 구간 동시 등록")
+class SectionConcurrencyAcceptanceTest extends AcceptanceTestBase {
+    private static final String TEST_COLOR = "bg-test-600";
+    private static final String BASE_PATH = "/lines/%d/sections";
+    private static final int WRITER_COUNT = 64;
+    private static final int LINE_COUNT = 8;
+    private static final int SECTIONS_PER_WRITER = 3;
+
+    @Autowired
+    private LineService lineService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("같은 노선에 같은 하행종점역으로 동시에 구간을 등록하면 하나만 등록된다")
+    void addSectionConcurrentlyOnSameLine() throws Exception {
+        // Given: 노선과 새로운 지하철역을 생성하고
+        Long 상행종점역_ID = createStation("상행종점역");
+        Long 하행종점역_ID = createStation("하행종점역");
+        Long 신규역_ID = createStation("신규역");
+        Long 노선_ID = createLine("노선", 상행종점역_ID, 하행종점역_ID);
+
+        // When: 64개의 요청이 동시에 하행종점역 뒤에 구간을 등록하면
+        List<Integer> statusCodes = runConcurrently(WRITER_COUNT, writer ->
+                post(String.format(BASE_PATH, 노선_ID), new AddSectionRequest(하행종점역_ID, 신규역_ID, 5)).statusCode());
+
+        // Then: 하나의 요청만 성공하고 나머지는 실패한다
+        assertThat(statusCodes).filteredOn(statusCode -> statusCode == HttpStatus.SC_CREATED).hasSize(1);
+        assertThat(statusCodes).filteredOn(statusCode -> statusCode != HttpStatus.SC_CREATED)
+                .allMatch(statusCode -> statusCode == HttpStatus.SC_BAD_REQUEST || statusCode == HttpStatus.SC_CONFLICT);
+
+        // Then: 노선에는 구간이 하나만 추가된다
+        ExtractableResponse<Response> getResponse = get(String.format(BASE_PATH, 노선_ID));
+        assertThat(getResponse.jsonPath().getList("downStationId", Long.class)).containsExactly(하행종점역_ID, 신규역_ID);
+    }
+
+    @Test
+    @DisplayName("서로 다른 노선에 동시에 구간을 등록하면 서로 영향을 주지 않는다")
+    void addSectionConcurrentlyOnDifferentLines() throws Exception {
+        // Given: 여러 노선과 각 노선에 등록할 지하철역을 생성하고
+        List<Long> lineIds = new ArrayList<>();
+        List<List<Long>> stationIdsByLine = new ArrayList<>();
+        for (int lineIndex = 0; lineIndex < LINE_COUNT; lineIndex++) {
+            List<Long> stationIds = new ArrayList<>();
+            for (int stationIndex = 0; stationIndex <= SECTIONS_PER_WRITER + 1; stationIndex++) {
+                stationIds.add(createStation("역" + lineIndex + "-" + stationIndex));
+            }
+            lineIds.add(createLine("노선" + lineIndex, stationIds.get(0), stationIds.get(1)));
+            stationIdsByLine.add(stationIds);
+        }
+
+        // When: 노선마다 하나의 요청자가 동시에 구간을 차례로 등록하면
+        List<Integer> statusCodes = runConcurrently(LINE_COUNT, writer -> {
+            List<Long> stationIds = stationIdsByLine.get(writer);
+            int lastStatusCode = HttpStatus.SC_CREATED;
+            for (int stationIndex = 1; stationIndex <= SECTIONS_PER_WRITER && lastStatusCode == HttpStatus.SC_CREATED; stationIndex++) {
+                AddSectionRequest request = new AddSectionRequest(stationIds.get(stationIndex), stationIds.get(stationIndex + 1), 5);
+                lastStatusCode = post(String.format(BASE_PATH, lineIds.get(writer)), request).statusCode();
+            }
+            return lastStatusCode;
+        });
+
+        // Then: 모든 노선의 구간 등록이 성공한다
+        assertThat(statusCodes).allMatch(statusCode -> statusCode == HttpStatus.SC_CREATED);
+        for (int lineIndex = 0; lineIndex < LINE_COUNT; lineIndex++) {
+            ExtractableResponse<Response> getResponse = get(String.format(BASE_PATH, lineIds.get(lineIndex)));
+            assertThat(getResponse.jsonPath().getList("downStationId")).hasSize(SECTIONS_PER_WRITER + 1);
+        }
+    }
+
+    @Test
+    @DisplayName("한 노선의 구간 등록 트랜잭션이 커밋되지 않은 동안에도 다른 노선의 구간 등록은 기다리지 않고 커밋된다")
+    void addSectionOnOtherLineWhileTransactionOpen() {
+        // Given: 두 노선과 각 노선에 등록할 지하철역을 생성하고
+        List<Long> 첫노선_역 = List.of(createStation("첫노선역0"), createStation("첫노선역1"), createStation("첫노선역2"));
+        List<Long> 둘째노선_역 = List.of(createStation("둘째노선역0"), createStation("둘째노선역1"), createStation("둘째노선역2"));
+        Long 첫노선_ID = createLine("첫노선", 첫노선_역.get(0), 첫노선_역.get(1));
+        Long 둘째노선_ID = createLine("둘째노선", 둘째노선_역.get(0), 둘째노선_역.get(1));
+
+        // When: 첫 노선에 구간을 등록해 데이터베이스에 반영한 트랜잭션을 열어 둔 채 둘째 노선에 구간을 등록하면
+        ExtractableResponse<Response> 둘째노선_응답 = new TransactionTemplate(transactionManager).execute(status -> {
+            lineService.addSection(첫노선_ID, new AddSectionRequest(첫노선_역.get(1), 첫노선_역.get(2), 5));
+            entityManager.flush();
+            return post(String.format(BASE_PATH, 둘째노선_ID), new AddSectionRequest(둘째노선_역.get(1), 둘째노선_역.get(2), 5));
+        });
+
+        // Then: 둘째 노선의 등록은 첫 노선의 커밋을 기다리지 않고 성공하고, 열어 둔 트랜잭션도 이후에 커밋된다
+        assertThat(둘째노선_응답.statusCode()).isEqualTo(HttpStatus.SC_CREATED);
+        assertThat(get(String.format(BASE_PATH, 첫노선_ID)).jsonPath().getList("downStationId", Long.class))
+                .containsExactly(첫노선_역.get(1), 첫노선_역.get(2));
+        assertThat(get(String.format(BASE_PATH, 둘째노선_ID)).jsonPath().getList("downStationId", Long.class))
+                .containsExactly(둘째노선_역.get(1), 둘째노선_역.get(2));
+    }
+
+    private static List<Integer> runConcurrently(int writerCount, Writer writer) throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(writerCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int index = 0; index < writerCount; index++) {
+                int writerIndex = index;
+                Callable<Integer> task = () -> {
+                    startLatch.await();
+                    return writer.write(writerIndex);
+                };
+                futures.add(executorService.submit(task));
+            }
+            startLatch.countDown();
+
+            List<Integer> results = new ArrayList<>();
+            for (Future<Integer> future : futures) {
+                results.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return results;
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    private Long createStation(String stationName) {
+        return post("/stations", StationRequest.from(stationName)).as(StationResponse.class).id();
+    }
+
+    private Long createLine(String lineName, Long upStationId, Long downStationId) {
+        CreateLineRequest line = CreateLineRequest.builder()
+                .name(lineName)
+                .color(TEST_COLOR)
+                .distance(10)
+                .upStationId(upStationId)
+                .downStationId(downStationId)
+                .build();
+        return post("/lines", line).as(LineResponse.class).getId();
+    }
+
+    @FunctionalInterface
+    private interface Writer {
+        int write(int writerIndex);
+    }
+}
@@ -6,14 +6,21 @@ import io.restassured.response.Response;
 import net.jqwik.api.Arbitraries;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import subway.station.domain.Station;
 import subway.station.dto.StationRequest;
 import subway.station.dto.StationResponse;
+import subway.station.repository.StationRepository;
 import subway.util.AcceptanceTestBase;
+import subway.util.DatabaseCleanUp;
 import subway.util.FixtureMonkeyWrapper;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static subway.util.RestAssuredWrapper.*;
@@ -21,6 +28,14 @@ import static subway.util.RestAssuredWrapper.*;
 @DisplayName("지하철역 관련 기능")
 class StationAcceptanceTest extends AcceptanceTestBase {
     private static final int STATION_NAME_MAX_LENGTH = 20;
+    private static final int STREAM_CHUNK_SIZE = 500;
+    private static final int ID_ALLOCATION_SIZE = 50;
+
+    @Autowired
+    private StationRepository stationRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
 
     @DisplayName("지하철역을 생성한다.")
     @Test
@@ -42,7 +57,7 @@ class StationAcceptanceTest extends AcceptanceTestBase {
     @Test
     void findStations() {
         // Given: 2개의 지하철역을 생성하고
-        List<StationRequest> stationRequests = FixtureMonkeyWrapper.giveMe(stationRequestArbitraryBuilder(), 2);
+        List<StationRequest> stationRequests = FixtureMonkeyWrapper.giveMeDistinct(stationRequestArbitraryBuilder(), 2, StationRequest::getName);
         stationRequests.forEach(stationRequest -> post("/stations", stationRequest));
 
         // When: 지하철역 목록을 조회하면
@@ -54,6 +69,96 @@ class StationAcceptanceTest extends AcceptanceTestBase {
                 .map(StationRequest::getName).collect(Collectors.toList()));
     }
 
+    @DisplayName("마지막으로 받은 역 이후의 지하철역 목록을 정해진 개수만큼 조회한다.")
+    @Test
+    void findStationsAfterId() {
+        // Given: 3개의 지하철역을 생성하고
+        List<Long> stationIds = FixtureMonkeyWrapper.giveMeDistinct(stationRequestArbitraryBuilder(), 3, StationRequest::getName).stream()
+                .map(stationRequest -> post("/stations", stationRequest).as(StationResponse.class).id())
+                .collect(Collectors.toList());
+
+        // When: 첫 번째 역 이후의 지하철역을 1개만 조회하면
+        ExtractableResponse<Response> getResponse = get("/stations",
+                Map.of("afterId", stationIds.get(0).toString(), "limit", "1"));
+
+        // Then: 두 번째 지하철역만 응답 받는다
+        List<StationResponse> stationResponses = getResponse(getResponse);
+        assertThat(stationResponses).extracting(StationResponse::id).containsExactly(stationIds.get(1));
+    }
+
+    @DisplayName("지하철역 목록을 NDJSON 스트림으로 조회한다.")
+    @Test
+    void streamStations() {
+        // Given: 2개의 지하철역을 생성하고
+        List<StationRequest> stationRequests = FixtureMonkeyWrapper.giveMeDistinct(stationRequestArbitraryBuilder(), 2, StationRequest::getName);
+        stationRequests.forEach(stationRequest -> post("/stations", stationRequest));
+
+        // When: NDJSON 형식으로 지하철역 목록을 조회하면
+        ExtractableResponse<Response> getResponse = get("/stations", Map.of(), Map.of("Accept", "application/x-ndjson"));
+
+        // Then: 한 줄에 하나씩 2개의 지하철역을 응답 받는다
+        assertThat(getResponse.statusCode()).isEqualTo(HttpStatus.OK.value());
+        assertThat(getResponse.contentType()).startsWith("application/x-ndjson");
+        assertThat(Arrays.stream(getResponse.asString().split("\n")).filter(line -> !line.isBlank())).hasSize(2);
+    }
+
+    @DisplayName("NDJSON 스트림은 여러 묶음에 걸친 지하철역을 빠짐없이 ID 순서로 응답한다.")
+    @Test
+    void streamStationsAcrossChunks() {
+        // Given: 한 번에 읽는 묶음보다 많은 지하철역을 저장하고
+        stationRepository.saveAll(IntStream.range(0, STREAM_CHUNK_SIZE + 1)
+                .mapToObj(i -> new Station("역" + i))
+                .collect(Collectors.toList()));
+
+        // When: NDJSON 형식으로 지하철역 목록을 조회하면
+        ExtractableResponse<Response> getResponse = get("/stations", Map.of(), Map.of("Accept", "application/x-ndjson"));
+
+        // Then: 모든 지하철역을 ID 순서로 한 줄씩 응답 받는다
+        List<Long> stationIds = Arrays.stream(getResponse.asString().split("\n"))
+                .filter(line -> !line.isBlank())
+                .map(line -> Long.parseLong(line.replaceAll("^\\{\"id\":(\\d+),.*$", "$1")))
+                .collect(Collectors.toList());
+        assertThat(stationIds).hasSize(STREAM_CHUNK_SIZE + 1).doesNotHaveDuplicates().isSorted();
+    }
+
+    @DisplayName("이미 있는 이름으로 지하철역을 생성할 수 없다.")
+    @Test
+    void createStationWithDuplicateName() {
+        // Given: 지하철역을 생성하고
+        StationRequest stationRequest = stationRequestArbitraryBuilder().sample();
+        post("/stations", stationRequest);
+
+        // When: 같은 이름으로 지하철역을 생성하면
+        ExtractableResponse<Response> postResponse = post("/stations", stationRequest);
+
+        // Then: 충돌로 생성에 실패한다
+        assertThat(postResponse.statusCode()).isEqualTo(HttpStatus.CONFLICT.value());
+        assertThat(getStationNames(get("/stations"))).hasSize(1);
+    }
+
+    @DisplayName("데이터를 초기화한 뒤 ID 할당 블록보다 많은 지하철역을 생성해도 ID가 겹치지 않고 생성 순서대로 증가한다.")
+    @Test
+    void createStationsBeyondAllocationBlockAfterCleanUp() {
+        // Given: 지하철역을 생성해 ID 블록을 받아 둔 상태에서 데이터를 초기화하고
+        post("/stations", stationRequestArbitraryBuilder().sample());
+        databaseCleanUp.execute();
+
+        // When: 할당 블록 크기보다 많은 지하철역을 생성하면
+        List<StationRequest> stationRequests = FixtureMonkeyWrapper.giveMeDistinct(stationRequestArbitraryBuilder(),
+                ID_ALLOCATION_SIZE + 10, StationRequest::getName);
+        List<ExtractableResponse<Response>> postResponses = stationRequests.stream()
+                .map(stationRequest -> post("/stations", stationRequest))
+                .collect(Collectors.toList());
+
+        // Then: 모두 생성되고, ID는 겹치지 않고 생성 순서대로 증가한다
+        assertThat(postResponses).allSatisfy(response -> assertThat(response.statusCode()).isEqualTo(HttpStatus.CREATED.value()));
+        List<Long> stationIds = postResponses.stream()
+                .map(response -> response.as(StationResponse.class).id())
+                .collect(Collectors.toList());
+        assertThat(stationIds).doesNotHaveDuplicates().isSorted();
+        assertThat(getStationNames(get("/stations"))).hasSize(stationRequests.size());
+    }
+
     @DisplayName("지하철역을 삭제한다.")
     @Test
     void deleteStation() {
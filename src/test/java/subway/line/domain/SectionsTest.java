@@ -0,0 +1,76 @@
+package subway.line.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import subway.section.domain.Section;
+import subway.station.domain.Station;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("구간 목록의 역 ID 인덱스")
+class SectionsTest {
+    private Line line;
+    private Station 신사역;
+    private Station 강남역;
+    private Station 양재역;
+
+    @BeforeEach
+    void setUp() {
+        line = withId(new Line("신분당선", "bg-red-600"), 1L);
+        신사역 = withId(new Station("신사역"), 1L);
+        강남역 = withId(new Station("강남역"), 2L);
+        양재역 = withId(new Station("양재역"), 3L);
+        line.addSection(section(신사역, 강남역, 10));
+    }
+
+    @Test
+    @DisplayName("인덱스를 구성한 뒤 구간을 추가하면 새 하행역이 인덱스에 반영된다")
+    void containsStationIdAfterAdd() {
+        // Given: 인덱스를 먼저 구성하고
+        assertThat(line.sections.containsStationId(양재역.getId())).isFalse();
+
+        // When: 구간을 추가하면
+        line.addSection(section(강남역, 양재역, 5));
+
+        // Then: 추가된 역을 찾을 수 있다
+        assertThat(line.sections.containsStationId(양재역.getId())).isTrue();
+        assertThat(line.getStations()).containsExactly(신사역, 강남역, 양재역);
+        assertThat(line.getDistance()).isEqualTo(15);
+    }
+
+    @Test
+    @DisplayName("마지막 구간을 삭제하면 하행종점역이 인덱스에서 빠진다")
+    void containsStationIdAfterRemove() {
+        // Given: 구간을 추가해 인덱스에 반영하고
+        line.addSection(section(강남역, 양재역, 5));
+        assertThat(line.sections.containsStationId(양재역.getId())).isTrue();
+
+        // When: 마지막 구간을 삭제하면
+        line.removeSection(양재역.getId());
+
+        // Then: 삭제된 역은 더 이상 찾을 수 없고, 다시 같은 역으로 구간을 추가할 수 있다
+        assertThat(line.sections.containsStationId(양재역.getId())).isFalse();
+        assertThat(line.getStations()).containsExactly(신사역, 강남역);
+        assertThat(line.getDistance()).isEqualTo(10);
+
+        line.addSection(section(강남역, 양재역, 7));
+        assertThat(line.sections.containsStationId(양재역.getId())).isTrue();
+        assertThat(line.getDistance()).isEqualTo(17);
+    }
+
+    private Section section(Station upStation, Station downStation, int distance) {
+        return Section.builder()
+                .line(line)
+                .upStation(upStation)
+                .downStation(downStation)
+                .distance(distance)
+                .build();
+    }
+
+    private static <T> T withId(T entity, Long id) {
+        ReflectionTestUtils.setField(entity, "id", id);
+        return entity;
+    }
+}
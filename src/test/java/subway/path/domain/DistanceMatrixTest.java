@@ -0,0 +1,82 @@
+package subway.path.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import subway.section.domain.SectionEdge;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("거리 표")
+class DistanceMatrixTest {
+    private static final int STATION_COUNT = 40;
+    private static final long ISOLATED_STATION_ID = 1_000L;
+
+    @Test
+    @DisplayName("모든 역 쌍에 대해 그래프 탐색과 같은 최단 거리를 응답한다")
+    void sameDistancesAsGraphSearch() {
+        // Given: 무작위 구간으로 이어진 노선도와 따로 떨어진 구간으로 그래프를 만들고
+        List<SectionEdge> edges = randomNetwork(new Random(42));
+        edges.add(new SectionEdge(ISOLATED_STATION_ID, ISOLATED_STATION_ID + 1, 3));
+        PathGraph graph = PathGraph.from(edges);
+
+        // When: 거리 표를 계산하면
+        DistanceMatrix matrix = DistanceMatrix.of(graph);
+
+        // Then: 모든 역 쌍의 거리와 도달 가능 여부가 그래프 탐색 결과와 같다
+        List<Long> stationIds = new ArrayList<>(LongStream.rangeClosed(1, STATION_COUNT).boxed().toList());
+        stationIds.add(ISOLATED_STATION_ID);
+        for (Long source : stationIds) {
+            for (Long target : stationIds) {
+                Optional<Path> expected = graph.findShortestPath(source, target);
+                Optional<Path> actual = matrix.findShortestPath(source, target);
+                assertThat(actual.map(Path::getDistance)).isEqualTo(expected.map(Path::getDistance));
+                actual.ifPresent(path -> assertThat(path.getStationIds()).startsWith(source).endsWith(target));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("그래프에 없는 역은 경로를 찾지 않는다")
+    void unknownStation() {
+        DistanceMatrix matrix = DistanceMatrix.of(PathGraph.from(List.of(new SectionEdge(1L, 2L, 5))));
+
+        assertThat(matrix.findShortestPath(1L, 3L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("표 크기가 int 범위를 넘는 노선도는 거리 표를 만들지 않는다")
+    void tooManyStations() {
+        // Given: 최대 정점 수보다 역이 하나 많은 노선도로
+        List<SectionEdge> edges = new ArrayList<>(DistanceMatrix.MAX_STATIONS);
+        for (long stationId = 1; stationId <= DistanceMatrix.MAX_STATIONS; stationId++) {
+            edges.add(new SectionEdge(stationId, stationId + 1, 1));
+        }
+        PathGraph graph = PathGraph.from(edges);
+
+        // When & Then: 거리 표를 만들면 배열을 할당하기 전에 실패한다
+        assertThatThrownBy(() -> DistanceMatrix.of(graph)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static List<SectionEdge> randomNetwork(Random random) {
+        List<SectionEdge> edges = new ArrayList<>();
+        for (long stationId = 2; stationId <= STATION_COUNT; stationId++) {
+            long connected = 1 + random.nextInt((int) stationId - 1);
+            edges.add(new SectionEdge(connected, stationId, 1 + random.nextInt(20)));
+        }
+        for (int i = 0; i < STATION_COUNT; i++) {
+            long up = 1 + random.nextInt(STATION_COUNT);
+            long down = 1 + random.nextInt(STATION_COUNT);
+            if (up != down) {
+                edges.add(new SectionEdge(up, down, 1 + random.nextInt(20)));
+            }
+        }
+        return edges;
+    }
+}
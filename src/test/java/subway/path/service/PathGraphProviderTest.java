@@ -0,0 +1,105 @@
+package subway.path.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import subway.path.domain.Path;
+import subway.path.domain.PathNetwork;
+import subway.section.domain.SectionEdge;
+import subway.section.repository.SectionRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("경로 탐색용 노선도 제공")
+class PathGraphProviderTest {
+    private static final List<SectionEdge> 기존_구간 = List.of(
+            new SectionEdge(1L, 2L, 10),
+            new SectionEdge(2L, 3L, 10),
+            new SectionEdge(1L, 4L, 2),
+            new SectionEdge(4L, 3L, 3));
+
+    private SectionRepository sectionRepository;
+
+    @BeforeEach
+    void setUp() {
+        sectionRepository = mock(SectionRepository.class);
+        when(sectionRepository.findAllEdges()).thenReturn(기존_구간);
+    }
+
+    @Test
+    @DisplayName("거리 표를 켜면 표로 응답하고, 결과는 그래프 탐색과 같다")
+    void matrix() {
+        // Given: 거리 표를 켠 상태로 시작하면
+        PathGraphProvider provider = provider(true, 100);
+        provider.onApplicationReady();
+
+        // When: 노선도를 받으면
+        PathNetwork network = provider.getNetwork();
+
+        // Then: 거리 표가 있고, 그래프 탐색과 같은 경로를 응답한다
+        assertThat(network.hasMatrix()).isTrue();
+        Path path = network.findShortestPath(1L, 3L).orElseThrow();
+        assertThat(path.getStationIds()).containsExactly(1L, 4L, 3L);
+        assertThat(path.getDistance()).isEqualTo(network.graph().findShortestPath(1L, 3L).orElseThrow().getDistance());
+    }
+
+    @Test
+    @DisplayName("역 수가 최대치를 넘으면 거리 표 없이 그래프 탐색으로 응답한다")
+    void fallbackToGraphSearch() {
+        // Given: 역 수보다 작은 최대치로 거리 표를 켜고 시작하면
+        PathGraphProvider provider = provider(true, 3);
+        provider.onApplicationReady();
+
+        // When: 노선도를 받으면
+        PathNetwork network = provider.getNetwork();
+
+        // Then: 거리 표는 없지만 경로는 찾는다
+        assertThat(network.hasMatrix()).isFalse();
+        assertThat(network.findShortestPath(1L, 3L).orElseThrow().getDistance()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("구간 변경 후 새 노선도로 교체되어도 이미 받은 노선도는 변경 전 상태로 일관되게 응답한다")
+    void swapAfterInvalidate() {
+        // Given: 거리 표가 계산된 노선도를 받아 두고
+        PathGraphProvider provider = provider(true, 100);
+        provider.onApplicationReady();
+        PathNetwork before = provider.getNetwork();
+
+        // When: 새 역으로 이어지는 구간이 추가되어 노선도가 교체되면
+        when(sectionRepository.findAllEdges()).thenReturn(List.of(
+                new SectionEdge(1L, 2L, 10),
+                new SectionEdge(2L, 3L, 10),
+                new SectionEdge(1L, 4L, 2),
+                new SectionEdge(4L, 3L, 3),
+                new SectionEdge(3L, 5L, 1)));
+        provider.invalidate();
+        PathNetwork after = provider.getNetwork();
+
+        // Then: 새 노선도는 새 역을 포함해 거리 표로 응답하고, 이전 노선도는 새 역을 모른다
+        assertThat(after).isNotSameAs(before);
+        assertThat(after.hasMatrix()).isTrue();
+        assertThat(after.contains(5L)).isTrue();
+        assertThat(after.findShortestPath(1L, 5L).orElseThrow().getDistance()).isEqualTo(6);
+        assertThat(before.contains(5L)).isFalse();
+        assertThat(before.findShortestPath(1L, 5L)).isEmpty();
+        assertThat(before.findShortestPath(1L, 3L).orElseThrow().getDistance()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("거리 표를 끄면 그래프 탐색으로만 응답한다")
+    void matrixDisabled() {
+        PathGraphProvider provider = provider(false, 100);
+        provider.onApplicationReady();
+
+        assertThat(provider.getNetwork().hasMatrix()).isFalse();
+    }
+
+    private PathGraphProvider provider(boolean matrixEnabled, int matrixMaxStations) {
+        return new PathGraphProvider(sectionRepository, matrixEnabled, matrixMaxStations, Runnable::run);
+    }
+}
@@ -0,0 +1,49 @@
+package subway.path.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import subway.common.error.ErrorCode;
+import subway.common.error.NotFoundException;
+import subway.path.domain.PathGraph;
+import subway.path.domain.PathNetwork;
+import subway.section.domain.SectionEdge;
+import subway.station.domain.Station;
+import subway.station.repository.StationRepository;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("경로 조회 서비스")
+class PathServiceTest {
+    private final PathGraphProvider pathGraphProvider = mock(PathGraphProvider.class);
+    private final StationRepository stationRepository = mock(StationRepository.class);
+    private final PathService pathService = new PathService(pathGraphProvider, stationRepository);
+
+    @Test
+    @DisplayName("노선도를 읽은 뒤 경로의 역이 삭제되었다면 null을 담지 않고 찾을 수 없음으로 실패한다")
+    void findPathWithDeletedStation() {
+        // Given: 1-2-3 노선도를 읽었지만 2번 역은 이미 삭제되었고
+        PathGraph graph = PathGraph.from(List.of(new SectionEdge(1L, 2L, 10), new SectionEdge(2L, 3L, 10)));
+        when(pathGraphProvider.getNetwork()).thenReturn(new PathNetwork(graph, null));
+        when(stationRepository.findAllById(anyIterable())).thenReturn(List.of(station(1L, "교대역"), station(3L, "양재역")));
+
+        // When & Then: 경로를 조회하면 삭제된 역을 찾을 수 없다는 오류가 난다
+        assertThatThrownBy(() -> pathService.findPath(1L, 3L))
+                .isInstanceOfSatisfying(NotFoundException.class, e -> {
+                    assertThat(e.getErrorCode()).isEqualTo(ErrorCode.NOT_FOUND);
+                    assertThat(e.getArguments()).containsEntry("id", 2L);
+                });
+    }
+
+    private static Station station(Long id, String name) {
+        Station station = new Station(name);
+        ReflectionTestUtils.setField(station, "id", id);
+        return station;
+    }
+}
@@ -0,0 +1,97 @@
+package subway.snapshot.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import subway.snapshot.domain.NetworkSnapshot.Fingerprint;
+import subway.snapshot.domain.NetworkSnapshot.LineRecord;
+import subway.snapshot.domain.NetworkSnapshot.SectionRecord;
+import subway.snapshot.domain.NetworkSnapshot.StationRecord;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("노선도 스냅샷 파일 형식")
+class NetworkSnapshotCodecTest {
+    private static final NetworkSnapshot SNAPSHOT = new NetworkSnapshot(
+            new Fingerprint(7, 3, 1, 2),
+            List.of(new StationRecord(1, "강남역"), new StationRecord(2, "양재역"), new StationRecord(3, "판교역")),
+            List.of(new LineRecord(1, 3, "신분당선", "bg-red-600", List.of(
+                    new SectionRecord(1, 2, 10),
+                    new SectionRecord(2, 3, 7)))));
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("기록한 스냅샷을 그대로 읽는다")
+    void roundTrip() throws IOException {
+        Path file = directory.resolve("network.snapshot");
+
+        NetworkSnapshotCodec.write(file, SNAPSHOT);
+
+        assertThat(NetworkSnapshotCodec.read(file)).isEqualTo(SNAPSHOT);
+        assertThat(directory.resolve("network.snapshot.tmp")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("빈 노선도도 그대로 읽는다")
+    void roundTripEmpty() throws IOException {
+        Path file = directory.resolve("network.snapshot");
+        NetworkSnapshot empty = new NetworkSnapshot(new Fingerprint(0, 0, 0, 0), List.of(), List.of());
+
+        NetworkSnapshotCodec.write(file, empty);
+
+        assertThat(NetworkSnapshotCodec.read(file)).isEqualTo(empty);
+    }
+
+    @Test
+    @DisplayName("본문이 손상되면 체크섬 검증에 실패한다")
+    void corruptedPayload() throws IOException {
+        Path file = written();
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 1] ^= 0x01;
+        Files.write(file, bytes);
+
+        assertThatThrownBy(() -> NetworkSnapshotCodec.read(file))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("checksum");
+    }
+
+    @Test
+    @DisplayName("매직 넘버가 다르면 읽지 않는다")
+    void wrongMagic() throws IOException {
+        Path file = written();
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[0] ^= 0x01;
+        Files.write(file, bytes);
+
+        assertThatThrownBy(() -> NetworkSnapshotCodec.read(file))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Unsupported");
+    }
+
+    @Test
+    @DisplayName("파일이 잘리면 읽지 않는다")
+    void truncated() throws IOException {
+        Path file = written();
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 3));
+
+        assertThatThrownBy(() -> NetworkSnapshotCodec.read(file))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("Truncated");
+    }
+
+    private Path written() throws IOException {
+        Path file = directory.resolve("network.snapshot");
+        NetworkSnapshotCodec.write(file, SNAPSHOT);
+        return file;
+    }
+}
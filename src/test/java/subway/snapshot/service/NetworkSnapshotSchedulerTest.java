@@ -0,0 +1,62 @@
+package subway.snapshot.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import subway.snapshot.domain.NetworkSnapshot;
+import subway.snapshot.domain.NetworkSnapshot.Fingerprint;
+import subway.snapshot.domain.NetworkSnapshotCodec;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("시작 시 스냅샷 적재")
+class NetworkSnapshotSchedulerTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("온전한 스냅샷은 읽기 모델을 채우는 데 쓴다")
+    void load() throws IOException {
+        Path file = directory.resolve("network.snapshot");
+        NetworkSnapshot snapshot = new NetworkSnapshot(new Fingerprint(1, 0, 0, 0), List.of(), List.of());
+        NetworkSnapshotCodec.write(file, snapshot);
+        NetworkSnapshotService networkSnapshotService = mock(NetworkSnapshotService.class);
+
+        new NetworkSnapshotScheduler(networkSnapshotService, file.toString()).load();
+
+        verify(networkSnapshotService).warm(snapshot);
+    }
+
+    @Test
+    @DisplayName("손상된 스냅샷은 건너뛰고 데이터베이스에서 읽도록 둔다")
+    void skipCorrupted() throws IOException {
+        Path file = directory.resolve("network.snapshot");
+        NetworkSnapshotCodec.write(file, new NetworkSnapshot(new Fingerprint(1, 0, 0, 0), List.of(), List.of()));
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 1] ^= 0x01;
+        Files.write(file, bytes);
+        NetworkSnapshotService networkSnapshotService = mock(NetworkSnapshotService.class);
+
+        new NetworkSnapshotScheduler(networkSnapshotService, file.toString()).load();
+
+        verify(networkSnapshotService, never()).warm(any());
+    }
+
+    @Test
+    @DisplayName("스냅샷 파일이 없으면 아무것도 채우지 않는다")
+    void skipMissing() {
+        NetworkSnapshotService networkSnapshotService = mock(NetworkSnapshotService.class);
+
+        new NetworkSnapshotScheduler(networkSnapshotService, directory.resolve("missing.snapshot").toString()).load();
+
+        verify(networkSnapshotService, never()).warm(any());
+    }
+}
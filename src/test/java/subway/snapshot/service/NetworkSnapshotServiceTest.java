@@ -0,0 +1,116 @@
+package subway.snapshot.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import subway.line.cache.LineCache;
+import subway.line.dto.CreateLineRequest;
+import subway.line.dto.LineResponse;
+import subway.snapshot.domain.NetworkSnapshot;
+import subway.station.dto.StationRequest;
+import subway.station.dto.StationResponse;
+import subway.util.AcceptanceTestBase;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static subway.util.RestAssuredWrapper.delete;
+import static subway.util.RestAssuredWrapper.post;
+
+@DisplayName("노선도 스냅샷으로 읽기 모델 채우기")
+class NetworkSnapshotServiceTest extends AcceptanceTestBase {
+    private static final String TEST_COLOR = "bg-test-600";
+
+    @Autowired
+    private NetworkSnapshotService networkSnapshotService;
+
+    @Autowired
+    private LineCache lineCache;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Long 강남역_ID;
+    private Long 양재역_ID;
+    private Long 신분당선_ID;
+
+    @BeforeEach
+    void init() {
+        강남역_ID = createStation("강남역");
+        양재역_ID = createStation("양재역");
+        신분당선_ID = createLine("신분당선", 강남역_ID, 양재역_ID);
+    }
+
+    @Test
+    @DisplayName("데이터베이스가 그대로면 스냅샷으로 노선 조회 캐시를 채운다")
+    void warm() {
+        // Given: 스냅샷을 만들고 캐시를 비운 뒤
+        NetworkSnapshot snapshot = networkSnapshotService.capture();
+        lineCache.clear();
+
+        // When: 스냅샷으로 읽기 모델을 채우면
+        boolean warmed = networkSnapshotService.warm(snapshot);
+
+        // Then: 노선 응답이 캐시에 들어간다
+        assertThat(warmed).isTrue();
+        LineResponse cached = linesCache().get(신분당선_ID, LineResponse.class);
+        assertThat(cached).isNotNull();
+        assertThat(cached.getStations()).extracting(StationResponse::id).containsExactly(강남역_ID, 양재역_ID);
+    }
+
+    @Test
+    @DisplayName("역을 삭제하고 다른 역을 만들어 개수가 같아도 스냅샷을 쓰지 않는다")
+    void staleAfterStationReplaced() {
+        // Given: 노선에 속하지 않은 역이 있는 상태로 스냅샷을 만들고
+        Long 고립역_ID = createStation("고립역");
+        NetworkSnapshot snapshot = networkSnapshotService.capture();
+
+        // When: 그 역을 삭제하고 다른 역을 만든 뒤 스냅샷으로 채우면
+        delete(String.format("/stations/%d", 고립역_ID));
+        createStation("새역");
+        lineCache.clear();
+        boolean warmed = networkSnapshotService.warm(snapshot);
+
+        // Then: 스냅샷을 쓰지 않고 캐시도 비어 있다
+        assertThat(warmed).isFalse();
+        assertThat(linesCache().get(신분당선_ID)).isNull();
+    }
+
+    @Test
+    @DisplayName("노선을 삭제하고 구간 수가 같은 노선을 만들어도 스냅샷을 쓰지 않는다")
+    void staleAfterLineReplaced() {
+        // Given: 스냅샷을 만들고
+        NetworkSnapshot snapshot = networkSnapshotService.capture();
+
+        // When: 노선을 삭제하고 같은 역으로 새 노선을 만든 뒤 스냅샷으로 채우면
+        delete(String.format("/lines/%d", 신분당선_ID));
+        Long 새노선_ID = createLine("새노선", 양재역_ID, 강남역_ID);
+        lineCache.clear();
+        boolean warmed = networkSnapshotService.warm(snapshot);
+
+        // Then: 스냅샷을 쓰지 않고 캐시도 비어 있다
+        assertThat(warmed).isFalse();
+        assertThat(linesCache().get(신분당선_ID)).isNull();
+        assertThat(linesCache().get(새노선_ID)).isNull();
+    }
+
+    private Cache linesCache() {
+        return cacheManager.getCache(LineCache.NAME);
+    }
+
+    private Long createStation(String stationName) {
+        return post("/stations", StationRequest.from(stationName)).as(StationResponse.class).id();
+    }
+
+    private Long createLine(String lineName, Long upStationId, Long downStationId) {
+        CreateLineRequest line = CreateLineRequest.builder()
+                .name(lineName)
+                .color(TEST_COLOR)
+                .distance(10)
+                .upStationId(upStationId)
+                .downStationId(downStationId)
+                .build();
+        return post("/lines", line).as(LineResponse.class).getId();
+    }
+}
@@ -1,8 +1,12 @@
 package subway.util;
 
 import com.google.common.base.CaseFormat;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import subway.line.cache.LineCache;
+import subway.line.cache.LineVersions;
+import subway.path.service.PathGraphProvider;
 
 import javax.annotation.PostConstruct;
 import javax.persistence.Entity;
@@ -12,7 +16,12 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
+@RequiredArgsConstructor
 public class DatabaseCleanUp {
+    private final PathGraphProvider pathGraphProvider;
+    private final LineCache lineCache;
+    private final LineVersions lineVersions;
+
     @PersistenceContext
     private EntityManager entityManager;
 
@@ -31,11 +40,14 @@ public class DatabaseCleanUp {
         entityManager.flush();
         entityManager.createNativeQuery("SET REFERENTIAL_INTEGRITY FALSE").executeUpdate();
 
+        // 시퀀스는 다시 시작하지 않는다. 생성기가 받아 둔 ID 블록을 그대로 이어 쓰므로 ID 값에 기대는 테스트를 두지 않는다.
         for (String tableName : tableNames) {
             entityManager.createNativeQuery("TRUNCATE TABLE \"" + tableName + "\"").executeUpdate();
-            entityManager.createNativeQuery("ALTER TABLE \"" + tableName + "\" ALTER COLUMN \"id\" RESTART WITH 1").executeUpdate();
         }
 
         entityManager.createNativeQuery("SET REFERENTIAL_INTEGRITY TRUE").executeUpdate();
+        pathGraphProvider.invalidate();
+        lineCache.clear();
+        lineVersions.clear();
     }
 }
@@ -4,7 +4,10 @@ import com.navercorp.fixturemonkey.ArbitraryBuilder;
 import com.navercorp.fixturemonkey.FixtureMonkey;
 import lombok.experimental.UtilityClass;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -20,6 +23,14 @@ public class FixtureMonkeyWrapper {
                 .collect(Collectors.toList());
     }
 
+    public static <T> List<T> giveMeDistinct(ArbitraryBuilder<T> builder, int size, Function<T, ?> keyExtractor) {
+        Set<Object> keys = new HashSet<>();
+        return Stream.generate(builder::sample)
+                .filter(sample -> keys.add(keyExtractor.apply(sample)))
+                .limit(size)
+                .collect(Collectors.toList());
+    }
+
     public static FixtureMonkey create() {
         return FIXTURE_MONKEY;
     }
@@ -0,0 +1,32 @@
+package subway.util;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+
+@Component
+public class QueryCounter {
+    private final StatementCounter statementCounter;
+    private final Statistics statistics;
+
+    public QueryCounter(StatementCounter statementCounter, EntityManagerFactory entityManagerFactory) {
+        this.statementCounter = statementCounter;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.statistics.setStatisticsEnabled(true);
+    }
+
+    public void clear() {
+        statementCounter.clear();
+        statistics.clear();
+    }
+
+    public long getStatementCount() {
+        return statementCounter.getCount();
+    }
+
+    public long getEntityLoadCount() {
+        return statistics.getEntityLoadCount();
+    }
+}
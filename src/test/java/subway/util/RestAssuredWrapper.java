@@ -14,26 +14,30 @@ import static io.restassured.RestAssured.given;
 @UtilityClass
 public class RestAssuredWrapper {
     public static ExtractableResponse<Response> get(String path) {
-        return request(path, null, null, HttpMethod.GET);
+        return request(path, null, null, null, HttpMethod.GET);
     }
 
     public static ExtractableResponse<Response> get(String path, Map<String, String> queryParams) {
-        return request(path, null, queryParams, HttpMethod.GET);
+        return request(path, null, queryParams, null, HttpMethod.GET);
+    }
+
+    public static ExtractableResponse<Response> get(String path, Map<String, String> queryParams, Map<String, String> headers) {
+        return request(path, null, queryParams, headers, HttpMethod.GET);
     }
 
     public static ExtractableResponse<Response> post(String path, Object body) {
-        return request(path, body, null, HttpMethod.POST);
+        return request(path, body, null, null, HttpMethod.POST);
     }
 
     public static ExtractableResponse<Response> put(String path, Object body) {
-        return request(path, body, null, HttpMethod.PUT);
+        return request(path, body, null, null, HttpMethod.PUT);
     }
 
     public static ExtractableResponse<Response> delete(String path) {
-        return request(path, null, null, HttpMethod.DELETE);
+        return request(path, null, null, null, HttpMethod.DELETE);
     }
 
-    private static ExtractableResponse<Response> request(String path, Object body, Map<String, String> queryParams, HttpMethod method) {
+    private static ExtractableResponse<Response> request(String path, Object body, Map<String, String> queryParams, Map<String, String> headers, HttpMethod method) {
         RequestSpecification requestSpecification = given()
                 .log().all()
                 .contentType(MediaType.APPLICATION_JSON_VALUE);
@@ -42,6 +46,10 @@ public class RestAssuredWrapper {
             requestSpecification.queryParams(queryParams);
         }
 
+        if (headers != null) {
+            requestSpecification.headers(headers);
+        }
+
         if (body != null) {
             requestSpecification.body(body);
         }
@@ -0,0 +1,51 @@
+package subway.util;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DataSource 를 감싸 JPA 와 JdbcTemplate 을 가리지 않고 실행된 모든 JDBC 문장을 센다.
+ */
+@Component
+public class StatementCounter implements BeanPostProcessor {
+    private final AtomicLong count = new AtomicLong();
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+            return bean;
+        }
+        return ProxyDataSourceBuilder.create(dataSource)
+                .name(beanName)
+                .listener(new CountingListener())
+                .build();
+    }
+
+    public void clear() {
+        count.set(0);
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    private class CountingListener implements QueryExecutionListener {
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            count.addAndGet(queryInfoList.size());
+        }
+    }
+}